@@ -0,0 +1,112 @@
+package com.kei.review.exams;
+
+import com.kei.review.exams.dto.ExamResultResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExamGradingBenchmark {
+    @Param({"150"})
+    private int questionCount;
+
+    @Param({"8"})
+    private int topicCount;
+
+    private List<ExamSessionSnapshot.Item> items;
+    private UUID[] answerQuestionIds;
+    private Integer[] answerIndexes;
+    private boolean[] answerFlags;
+    private ExamSessionSnapshot answeredSnapshot;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UUID[] topicIds = new UUID[topicCount];
+        for (int i = 0; i < topicCount; i++) {
+            topicIds[i] = UUID.randomUUID();
+        }
+
+        items = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            int topic = random.nextInt(topicCount);
+            items.add(new ExamSessionSnapshot.Item(
+                i,
+                UUID.randomUUID(),
+                "Question " + i,
+                List.of("A", "B", "C", "D"),
+                random.nextInt(4),
+                topicIds[topic],
+                "Topic " + topic
+            ));
+        }
+
+        answerQuestionIds = new UUID[questionCount];
+        answerIndexes = new Integer[questionCount];
+        answerFlags = new boolean[questionCount];
+        for (int i = 0; i < questionCount; i++) {
+            answerQuestionIds[i] = items.get(random.nextInt(questionCount)).questionId();
+            answerIndexes[i] = random.nextInt(10) == 0 ? null : random.nextInt(4);
+            answerFlags[i] = random.nextInt(8) == 0;
+        }
+
+        answeredSnapshot = newSnapshot();
+        grade(answeredSnapshot);
+    }
+
+    @Benchmark
+    public ExamScoreTally.Counts gradeSession() {
+        return grade(newSnapshot());
+    }
+
+    @Benchmark
+    public ExamScoreTally.Counts gradeAnswer() {
+        int i = next;
+        next = (next + 1) % questionCount;
+        ExamSessionSnapshot.Item item = answeredSnapshot.item(answerQuestionIds[i]);
+        boolean correct = item.isCorrect(answerIndexes[i]);
+        return answeredSnapshot.tally().apply(item.orderIndex(), answerIndexes[i], correct, answerFlags[i]);
+    }
+
+    @Benchmark
+    public void results(Blackhole blackhole) {
+        ExamScoreTally.Counts counts = answeredSnapshot.tally().counts();
+        List<ExamResultResponse.TopicScore> topicScores = answeredSnapshot.tally().topicScores();
+        blackhole.consume(counts);
+        blackhole.consume(topicScores);
+    }
+
+    @Benchmark
+    public ExamSessionSnapshot buildSnapshot() {
+        return newSnapshot();
+    }
+
+    private ExamSessionSnapshot newSnapshot() {
+        return ExamSessionSnapshot.of(UUID.randomUUID(), UUID.randomUUID(), Instant.MAX, items);
+    }
+
+    private ExamScoreTally.Counts grade(ExamSessionSnapshot snapshot) {
+        ExamScoreTally.Counts counts = null;
+        for (int i = 0; i < questionCount; i++) {
+            ExamSessionSnapshot.Item item = snapshot.item(answerQuestionIds[i]);
+            boolean correct = item.isCorrect(answerIndexes[i]);
+            counts = snapshot.tally().apply(item.orderIndex(), answerIndexes[i], correct, answerFlags[i]);
+        }
+        return counts;
+    }
+}
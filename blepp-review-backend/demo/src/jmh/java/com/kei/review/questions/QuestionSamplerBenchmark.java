@@ -0,0 +1,47 @@
+package com.kei.review.questions;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionSamplerBenchmark {
+    @Param({"50000"})
+    private int bankSize;
+
+    @Param({"150"})
+    private int sessionSize;
+
+    private UUID[] ids;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        ids = new UUID[bankSize];
+        for (int i = 0; i < bankSize; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public List<UUID> sampleSession() {
+        return QuestionSampler.sample(ids, sessionSize, random);
+    }
+
+    @Benchmark
+    public List<UUID> sampleWholeBank() {
+        return QuestionSampler.sample(ids, Integer.MAX_VALUE, random);
+    }
+}
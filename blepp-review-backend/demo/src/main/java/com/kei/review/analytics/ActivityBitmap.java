@@ -0,0 +1,85 @@
+package com.kei.review.analytics;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+
+public final class ActivityBitmap {
+    private static final ActivityBitmap EMPTY = new ActivityBitmap(null, new BitSet());
+
+    private final LocalDate origin;
+    private final BitSet bits;
+
+    private ActivityBitmap(LocalDate origin, BitSet bits) {
+        this.origin = origin;
+        this.bits = bits;
+    }
+
+    public static ActivityBitmap empty() {
+        return EMPTY;
+    }
+
+    public static ActivityBitmap of(LocalDate origin, byte[] bytes) {
+        if (origin == null || bytes == null) {
+            return EMPTY;
+        }
+        return new ActivityBitmap(origin, BitSet.valueOf(bytes));
+    }
+
+    public LocalDate origin() {
+        return origin;
+    }
+
+    public byte[] toBytes() {
+        return bits.toByteArray();
+    }
+
+    public ActivityBitmap withActive(Collection<LocalDate> days) {
+        if (days.isEmpty()) {
+            return this;
+        }
+        LocalDate newOrigin = origin;
+        for (LocalDate day : days) {
+            if (newOrigin == null || day.isBefore(newOrigin)) {
+                newOrigin = day;
+            }
+        }
+        BitSet updated = new BitSet();
+        if (origin != null) {
+            int shift = index(newOrigin, origin);
+            bits.stream().forEach(bit -> updated.set(bit + shift));
+        }
+        for (LocalDate day : days) {
+            updated.set(index(newOrigin, day));
+        }
+        return new ActivityBitmap(newOrigin, updated);
+    }
+
+    public boolean isActive(LocalDate day) {
+        if (origin == null || day.isBefore(origin)) {
+            return false;
+        }
+        return bits.get(index(origin, day));
+    }
+
+    public int streak(LocalDate today) {
+        if (!isActive(today)) {
+            return 0;
+        }
+        int todayIndex = index(origin, today);
+        return todayIndex - bits.previousClearBit(todayIndex);
+    }
+
+    public int countActive(LocalDate from, LocalDate to) {
+        if (origin == null || to.isBefore(origin) || to.isBefore(from)) {
+            return 0;
+        }
+        int fromIndex = from.isBefore(origin) ? 0 : index(origin, from);
+        return bits.get(fromIndex, index(origin, to) + 1).cardinality();
+    }
+
+    private static int index(LocalDate origin, LocalDate day) {
+        return Math.toIntExact(ChronoUnit.DAYS.between(origin, day));
+    }
+}
@@ -1,7 +1,9 @@
 package com.kei.review.analytics;
 
 import com.kei.review.analytics.dto.AccuracyTrendResponse;
+import com.kei.review.analytics.dto.AnalyticsDashboardResponse;
 import com.kei.review.analytics.dto.AnalyticsOverviewResponse;
+import com.kei.review.analytics.dto.RankingResponse;
 import com.kei.review.analytics.dto.ReadinessResponse;
 import com.kei.review.analytics.dto.TopicMasteryResponse;
 import com.kei.review.auth.UserPrincipal;
@@ -20,6 +22,13 @@ public class AnalyticsController {
         this.analyticsService = analyticsService;
     }
 
+    @GetMapping("/dashboard")
+    public ResponseEntity<AnalyticsDashboardResponse> dashboard(
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(analyticsService.dashboard(principal.getId()));
+    }
+
     @GetMapping("/overview")
     public ResponseEntity<AnalyticsOverviewResponse> overview(
         @AuthenticationPrincipal UserPrincipal principal
@@ -41,6 +50,13 @@ public class AnalyticsController {
         return ResponseEntity.ok(analyticsService.readiness(principal.getId()));
     }
 
+    @GetMapping("/ranking")
+    public ResponseEntity<RankingResponse> ranking(
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(analyticsService.ranking(principal.getId()));
+    }
+
     @GetMapping("/accuracy-trend")
     public ResponseEntity<AccuracyTrendResponse> accuracyTrend(
         @AuthenticationPrincipal UserPrincipal principal
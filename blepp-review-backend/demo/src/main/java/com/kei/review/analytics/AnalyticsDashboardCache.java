@@ -0,0 +1,36 @@
+package com.kei.review.analytics;
+
+import com.kei.review.analytics.dto.AnalyticsDashboardResponse;
+import com.kei.review.cache.BoundedCache;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnalyticsDashboardCache {
+    private final BoundedCache<UUID, AnalyticsDashboardResponse> dashboards;
+
+    public AnalyticsDashboardCache(
+        @Value("${app.analytics.dashboard.max-users:10000}") int maxUsers,
+        @Value("${app.analytics.dashboard.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.dashboards = new BoundedCache<>(maxUsers, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public AnalyticsDashboardResponse get(UUID userId, Function<UUID, AnalyticsDashboardResponse> loader) {
+        return dashboards.computeIfAbsent(userId, loader);
+    }
+
+    public void invalidate(Collection<UUID> userIds) {
+        userIds.forEach(dashboards::invalidate);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.dashboard.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        dashboards.evictExpired();
+    }
+}
@@ -1,14 +1,18 @@
 package com.kei.review.analytics;
 
+import com.kei.review.analytics.dto.AnalyticsDashboardResponse;
 import com.kei.review.analytics.dto.AnalyticsOverviewResponse;
 import com.kei.review.analytics.dto.AccuracyTrendResponse;
+import com.kei.review.analytics.dto.RankingResponse;
 import com.kei.review.analytics.dto.ReadinessResponse;
 import com.kei.review.analytics.dto.TopicMasteryResponse;
 import java.util.UUID;
 
 public interface AnalyticsService {
+    AnalyticsDashboardResponse dashboard(UUID userId);
     AnalyticsOverviewResponse overview(UUID userId);
     TopicMasteryResponse topicMastery(UUID userId);
     ReadinessResponse readiness(UUID userId);
     AccuracyTrendResponse accuracyTrend(UUID userId);
+    RankingResponse ranking(UUID userId);
 }
@@ -1,61 +1,155 @@
 package com.kei.review.analytics;
 
+import com.kei.review.analytics.dto.AnalyticsDashboardResponse;
 import com.kei.review.analytics.dto.AnalyticsOverviewResponse;
 import com.kei.review.analytics.dto.AccuracyTrendResponse;
+import com.kei.review.analytics.dto.RankingResponse;
 import com.kei.review.analytics.dto.ReadinessResponse;
 import com.kei.review.analytics.dto.TopicMasteryResponse;
-import com.kei.review.exams.ExamSession;
 import com.kei.review.exams.ExamSessionRepository;
-import com.kei.review.practice.AnswerAttempt;
-import com.kei.review.practice.AnswerAttemptRepository;
+import com.kei.review.topics.UserTopic;
 import com.kei.review.topics.UserTopicRepository;
-import java.time.Instant;
+import com.kei.review.users.UserTimeZones;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AnalyticsServiceImpl implements AnalyticsService {
-    private final AnswerAttemptRepository answerAttemptRepository;
+    private static final int TREND_DAYS = 10;
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final UserActivityBitmapRepository userActivityBitmapRepository;
     private final UserTopicRepository userTopicRepository;
     private final ExamSessionRepository examSessionRepository;
+    private final AnalyticsDashboardCache dashboardCache;
+    private final CohortRanking cohortRanking;
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
 
     public AnalyticsServiceImpl(
-        AnswerAttemptRepository answerAttemptRepository,
+        UserDailyActivityRepository userDailyActivityRepository,
+        UserActivityBitmapRepository userActivityBitmapRepository,
         UserTopicRepository userTopicRepository,
-        ExamSessionRepository examSessionRepository
+        ExamSessionRepository examSessionRepository,
+        AnalyticsDashboardCache dashboardCache,
+        CohortRanking cohortRanking
     ) {
-        this.answerAttemptRepository = answerAttemptRepository;
+        this.userDailyActivityRepository = userDailyActivityRepository;
+        this.userActivityBitmapRepository = userActivityBitmapRepository;
         this.userTopicRepository = userTopicRepository;
         this.examSessionRepository = examSessionRepository;
+        this.dashboardCache = dashboardCache;
+        this.cohortRanking = cohortRanking;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loaders.shutdown();
+    }
+
+    @Override
+    public AnalyticsDashboardResponse dashboard(UUID userId) {
+        return dashboardCache.get(userId, this::loadDashboard);
     }
 
     @Override
     public AnalyticsOverviewResponse overview(UUID userId) {
-        List<AnswerAttempt> attempts = answerAttemptRepository.findByUserId(userId);
-        long total = attempts.size();
-        long correct = attempts.stream().filter(AnswerAttempt::isCorrect).count();
-        int accuracy = total == 0 ? 0 : (int) Math.round((correct * 100.0) / total);
-        int streak = calculateStudyStreak(attempts);
-        String hoursStudied = formatHoursStudied(attempts);
+        return toOverview(totals(userId), activity(userId));
+    }
 
-        return new AnalyticsOverviewResponse(
-            accuracy + "%",
-            streak + " days",
-            hoursStudied,
-            String.valueOf(total)
+    @Override
+    public TopicMasteryResponse topicMastery(UUID userId) {
+        return toTopicMastery(userTopicRepository.findWithTopicByUserId(userId));
+    }
+
+    @Override
+    public ReadinessResponse readiness(UUID userId) {
+        return toReadiness(
+            totals(userId),
+            activity(userId),
+            userTopicRepository.findWithTopicByUserId(userId),
+            mockExamAverage(userId)
         );
     }
 
     @Override
-    public TopicMasteryResponse topicMastery(UUID userId) {
-        List<TopicMasteryResponse.TopicMasteryStat> topics = userTopicRepository.findByUserId(userId)
-            .stream()
+    public AccuracyTrendResponse accuracyTrend(UUID userId) {
+        LocalDate today = activity(userId).today();
+        return toAccuracyTrend(trendDays(userId, today), today);
+    }
+
+    @Override
+    public RankingResponse ranking(UUID userId) {
+        ReadinessResponse readiness = dashboard(userId).readiness();
+        Double examAverage = examSessionRepository.averageScoreByUserId(userId);
+        CohortRanking.Snapshot snapshot = cohortRanking.snapshot();
+        ScoreHistogram readinessCohort = snapshot.readiness();
+        ScoreHistogram mockExamCohort = snapshot.mockExams();
+        boolean rankedReadiness = readinessCohort.total() > 0;
+        boolean rankedMockExams = examAverage != null && mockExamCohort.total() > 0;
+        int mockExams = ReadinessScores.mockExams(examAverage);
+
+        return new RankingResponse(
+            readiness.score(),
+            rankedReadiness ? readinessCohort.percentile(readiness.score()) : null,
+            rankedReadiness ? readinessCohort.topPercent(readiness.score()) : null,
+            readinessCohort.total(),
+            examAverage != null ? mockExams : null,
+            rankedMockExams ? mockExamCohort.percentile(mockExams) : null,
+            rankedMockExams ? mockExamCohort.topPercent(mockExams) : null,
+            mockExamCohort.total(),
+            snapshot.builtAt()
+        );
+    }
+
+    private AnalyticsDashboardResponse loadDashboard(UUID userId) {
+        CompletableFuture<Totals> totals = CompletableFuture.supplyAsync(() -> totals(userId), loaders);
+        CompletableFuture<Activity> activity = CompletableFuture.supplyAsync(() -> activity(userId), loaders);
+        CompletableFuture<List<UserDailyActivity>> trend =
+            activity.thenApplyAsync(loaded -> trendDays(userId, loaded.today()), loaders);
+        CompletableFuture<List<UserTopic>> topics =
+            CompletableFuture.supplyAsync(() -> userTopicRepository.findWithTopicByUserId(userId), loaders);
+        CompletableFuture<Integer> mockExams = CompletableFuture.supplyAsync(() -> mockExamAverage(userId), loaders);
+
+        try {
+            CompletableFuture.allOf(totals, activity, trend, topics, mockExams).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return new AnalyticsDashboardResponse(
+            toOverview(totals.join(), activity.join()),
+            toTopicMastery(topics.join()),
+            toReadiness(totals.join(), activity.join(), topics.join(), mockExams.join()),
+            toAccuracyTrend(trend.join(), activity.join().today())
+        );
+    }
+
+    private AnalyticsOverviewResponse toOverview(Totals totals, Activity activity) {
+        return new AnalyticsOverviewResponse(
+            totals.accuracy() + "%",
+            activity.bitmap().streak(activity.today()) + " days",
+            formatHoursStudied(totals.seconds()),
+            String.valueOf(totals.attempts())
+        );
+    }
+
+    private TopicMasteryResponse toTopicMastery(List<UserTopic> userTopics) {
+        List<TopicMasteryResponse.TopicMasteryStat> topics = userTopics.stream()
             .map(ut -> new TopicMasteryResponse.TopicMasteryStat(
                 ut.getTopic().getName(),
                 ut.getMasteryPct() == null ? 0 : ut.getMasteryPct()
@@ -64,49 +158,37 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new TopicMasteryResponse(topics);
     }
 
-    @Override
-    public ReadinessResponse readiness(UUID userId) {
-        long total = answerAttemptRepository.countByUserId(userId);
-        long correct = answerAttemptRepository.countByUserIdAndCorrectTrue(userId);
-        int accuracy = total == 0 ? 0 : (int) Math.round((correct * 100.0) / total);
-        int consistency = calculateConsistency(userId);
-        int coverage = calculateCoverage(userId);
-        int mockExams = calculateMockExamAverage(userId);
-        int score = (int) Math.round(
-            accuracy * 0.5 +
-            consistency * 0.2 +
-            coverage * 0.2 +
-            mockExams * 0.1
-        );
+    private ReadinessResponse toReadiness(
+        Totals totals,
+        Activity activity,
+        List<UserTopic> topics,
+        int mockExams
+    ) {
+        int accuracy = totals.accuracy();
+        int consistency = calculateConsistency(activity);
+        int coverage = calculateCoverage(topics);
+        int score = ReadinessScores.score(accuracy, consistency, coverage, mockExams);
 
         return new ReadinessResponse(score, accuracy, consistency, coverage, mockExams);
     }
 
-    @Override
-    public AccuracyTrendResponse accuracyTrend(UUID userId) {
-        LocalDate today = LocalDate.now();
-        LocalDate start = today.minusDays(9);
-        Instant since = start.atStartOfDay(ZoneId.systemDefault()).toInstant();
-        List<AnswerAttempt> attempts = answerAttemptRepository.findByUserIdAndCreatedAtAfter(userId, since);
-
-        var attemptsByDay = attempts.stream()
-            .filter(attempt -> attempt.getCreatedAt() != null)
-            .collect(Collectors.groupingBy(attempt ->
-                attempt.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDate()
-            ));
+    private AccuracyTrendResponse toAccuracyTrend(List<UserDailyActivity> trend, LocalDate today) {
+        LocalDate start = today.minusDays(TREND_DAYS - 1);
+        Map<LocalDate, UserDailyActivity> byDay = trend.stream()
+            .collect(Collectors.toMap(UserDailyActivity::getActivityDate, Function.identity()));
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d");
         List<AccuracyTrendResponse.AccuracyPoint> points = start.datesUntil(today.plusDays(1))
             .map(date -> {
-                List<AnswerAttempt> dayAttempts = attemptsByDay.getOrDefault(date, List.of());
-                long total = dayAttempts.size();
-                long correct = dayAttempts.stream().filter(AnswerAttempt::isCorrect).count();
+                UserDailyActivity day = byDay.get(date);
+                int total = day == null ? 0 : day.getAttemptCount();
+                int correct = day == null ? 0 : day.getCorrectCount();
                 int accuracy = total == 0 ? 0 : (int) Math.round((correct * 100.0) / total);
                 return new AccuracyTrendResponse.AccuracyPoint(
                     formatter.format(date),
                     accuracy,
-                    (int) total,
-                    (int) correct
+                    total,
+                    correct
                 );
             })
             .toList();
@@ -114,42 +196,45 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new AccuracyTrendResponse(points);
     }
 
-    private int calculateConsistency(UUID userId) {
-        Instant since = Instant.now().minusSeconds(14L * 24 * 60 * 60);
-        List<AnswerAttempt> attempts = answerAttemptRepository.findByUserIdAndCreatedAtAfter(userId, since);
-        Set<LocalDate> activeDays = attempts.stream()
-            .map(AnswerAttempt::getCreatedAt)
-            .filter(value -> value != null)
-            .map(value -> value.atZone(ZoneId.systemDefault()).toLocalDate())
-            .collect(Collectors.toSet());
-        int daysActive = activeDays.size();
-        return (int) Math.round((daysActive / 14.0) * 100);
+    private Totals totals(UUID userId) {
+        List<Object[]> rows = userDailyActivityRepository.sumTotalsByUserId(userId);
+        if (rows.isEmpty()) {
+            return new Totals(0, 0, 0);
+        }
+        Object[] row = rows.getFirst();
+        return new Totals(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).longValue(),
+            ((Number) row[2]).longValue()
+        );
     }
 
-    private int calculateStudyStreak(List<AnswerAttempt> attempts) {
-        if (attempts.isEmpty()) {
-            return 0;
+    private Activity activity(UUID userId) {
+        List<Object[]> rows = userActivityBitmapRepository.findActivityByUserId(userId);
+        if (rows.isEmpty()) {
+            return new Activity(UserTimeZones.resolve(null), ActivityBitmap.empty());
         }
-        Set<LocalDate> activeDays = attempts.stream()
-            .map(AnswerAttempt::getCreatedAt)
-            .filter(value -> value != null)
-            .map(value -> value.atZone(ZoneId.systemDefault()).toLocalDate())
-            .collect(Collectors.toSet());
-        LocalDate cursor = LocalDate.now();
-        int streak = 0;
-        while (activeDays.contains(cursor)) {
-            streak += 1;
-            cursor = cursor.minusDays(1);
-        }
-        return streak;
+        Object[] row = rows.getFirst();
+        return new Activity(
+            UserTimeZones.resolve((String) row[0]),
+            ActivityBitmap.of((LocalDate) row[1], (byte[]) row[2])
+        );
+    }
+
+    private List<UserDailyActivity> trendDays(UUID userId, LocalDate today) {
+        return userDailyActivityRepository.findByUserIdAndActivityDateGreaterThanEqualOrderByActivityDateAsc(
+            userId,
+            today.minusDays(TREND_DAYS - 1)
+        );
+    }
+
+    private int calculateConsistency(Activity activity) {
+        LocalDate today = activity.today();
+        int daysActive = activity.bitmap().countActive(today.minusDays(ReadinessScores.CONSISTENCY_DAYS - 1), today);
+        return ReadinessScores.consistency(daysActive);
     }
 
-    private String formatHoursStudied(List<AnswerAttempt> attempts) {
-        int seconds = attempts.stream()
-            .map(AnswerAttempt::getTimeTakenSeconds)
-            .filter(value -> value != null && value > 0)
-            .mapToInt(Integer::intValue)
-            .sum();
+    private String formatHoursStudied(long seconds) {
         if (seconds == 0) {
             return "0h";
         }
@@ -157,27 +242,26 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return String.format("%.1fh", hours);
     }
 
-    private int calculateCoverage(UUID userId) {
-        var topics = userTopicRepository.findByUserId(userId);
-        if (topics.isEmpty()) {
-            return 0;
-        }
+    private int calculateCoverage(List<UserTopic> topics) {
         long covered = topics.stream()
-            .filter(t -> t.getMasteryPct() != null && t.getMasteryPct() >= 50)
+            .filter(t -> t.getMasteryPct() != null && t.getMasteryPct() >= ReadinessScores.COVERED_MASTERY_PCT)
             .count();
-        return (int) Math.round((covered * 100.0) / topics.size());
+        return ReadinessScores.coverage(topics.size(), covered);
     }
 
-    private int calculateMockExamAverage(UUID userId) {
-        List<ExamSession> sessions = examSessionRepository.findByUserId(userId);
-        List<Integer> scores = sessions.stream()
-            .map(ExamSession::getScore)
-            .filter(score -> score != null)
-            .toList();
-        if (scores.isEmpty()) {
-            return 0;
+    private int mockExamAverage(UUID userId) {
+        return ReadinessScores.mockExams(examSessionRepository.averageScoreByUserId(userId));
+    }
+
+    private record Activity(ZoneId zone, ActivityBitmap bitmap) {
+        LocalDate today() {
+            return LocalDate.now(zone);
+        }
+    }
+
+    private record Totals(long attempts, long correct, long seconds) {
+        int accuracy() {
+            return ReadinessScores.accuracy(attempts, correct);
         }
-        double avg = scores.stream().mapToInt(Integer::intValue).average().orElse(0);
-        return (int) Math.round(avg);
     }
 }
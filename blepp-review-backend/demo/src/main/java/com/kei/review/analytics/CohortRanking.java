@@ -0,0 +1,159 @@
+package com.kei.review.analytics;
+
+import com.kei.review.users.UserTimeZones;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class CohortRanking {
+    private static final Logger log = LoggerFactory.getLogger(CohortRanking.class);
+
+    private static final String TIME_ZONES_SQL = """
+        SELECT DISTINCT time_zone FROM users
+        """;
+
+    private static final String COHORT_SQL = """
+        WITH totals AS (
+            SELECT user_id, SUM(attempt_count) AS attempts, SUM(correct_count) AS correct
+            FROM user_daily_activity
+            GROUP BY user_id
+        ),
+        recent AS (
+            SELECT d.user_id, COUNT(*) AS active_days
+            FROM user_daily_activity d
+            JOIN users u ON u.id = d.user_id
+            JOIN unnest(?::text[], ?::date[]) AS z(time_zone, today) ON z.time_zone = u.time_zone
+            WHERE d.attempt_count > 0
+              AND d.activity_date > z.today - ?
+              AND d.activity_date <= z.today
+            GROUP BY d.user_id
+        ),
+        coverage AS (
+            SELECT user_id, COUNT(*) AS topics, COUNT(*) FILTER (WHERE mastery_pct >= ?) AS covered
+            FROM user_topics
+            GROUP BY user_id
+        ),
+        exams AS (
+            SELECT user_id, AVG(score) AS average
+            FROM exam_sessions
+            WHERE score IS NOT NULL
+            GROUP BY user_id
+        )
+        SELECT COALESCE(t.attempts, 0) AS attempts,
+               COALESCE(t.correct, 0) AS correct,
+               COALESCE(r.active_days, 0) AS active_days,
+               COALESCE(c.topics, 0) AS topics,
+               COALESCE(c.covered, 0) AS covered,
+               e.average AS exam_average
+        FROM users u
+        LEFT JOIN totals t ON t.user_id = u.id
+        LEFT JOIN recent r ON r.user_id = u.id
+        LEFT JOIN coverage c ON c.user_id = u.id
+        LEFT JOIN exams e ON e.user_id = u.id
+        WHERE COALESCE(t.attempts, 0) > 0 OR e.average IS NOT NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("cohort-ranking").factory()
+    );
+    private volatile Snapshot snapshot = new Snapshot(new ScoreHistogram().freeze(), new ScoreHistogram().freeze(), null);
+
+    public CohortRanking(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestRebuild();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.analytics.ranking.rebuild-interval-ms:900000}",
+        initialDelayString = "${app.analytics.ranking.rebuild-interval-ms:900000}"
+    )
+    public void requestRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        try {
+            ScoreHistogram readiness = new ScoreHistogram();
+            ScoreHistogram mockExams = new ScoreHistogram();
+            transactionTemplate.executeWithoutResult(status -> {
+                String[] zones = jdbcTemplate.queryForList(TIME_ZONES_SQL, String.class).toArray(String[]::new);
+                Instant now = Instant.now();
+                Date[] todays = new Date[zones.length];
+                for (int i = 0; i < zones.length; i++) {
+                    todays[i] = Date.valueOf(LocalDate.ofInstant(now, UserTimeZones.resolve(zones[i])));
+                }
+                jdbcTemplate.query(
+                    COHORT_SQL,
+                    ps -> {
+                        ps.setArray(1, ps.getConnection().createArrayOf("text", zones));
+                        ps.setArray(2, ps.getConnection().createArrayOf("date", todays));
+                        ps.setInt(3, ReadinessScores.CONSISTENCY_DAYS);
+                        ps.setInt(4, ReadinessScores.COVERED_MASTERY_PCT);
+                    },
+                    rs -> {
+                        int accuracy = ReadinessScores.accuracy(rs.getLong("attempts"), rs.getLong("correct"));
+                        int consistency = ReadinessScores.consistency(rs.getLong("active_days"));
+                        int coverage = ReadinessScores.coverage(rs.getLong("topics"), rs.getLong("covered"));
+                        Double examAverage = rs.getObject("exam_average", Double.class);
+                        int mockExamScore = ReadinessScores.mockExams(examAverage);
+                        readiness.add(ReadinessScores.score(accuracy, consistency, coverage, mockExamScore));
+                        if (examAverage != null) {
+                            mockExams.add(mockExamScore);
+                        }
+                    }
+                );
+            });
+            snapshot = new Snapshot(readiness.freeze(), mockExams.freeze(), Instant.now());
+            log.info(
+                "Rebuilt readiness ranking for {} users in {} ms",
+                readiness.total(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild readiness ranking, keeping the previous snapshot", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public record Snapshot(ScoreHistogram readiness, ScoreHistogram mockExams, Instant builtAt) {
+    }
+}
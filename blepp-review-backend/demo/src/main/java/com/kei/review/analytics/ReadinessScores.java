@@ -0,0 +1,34 @@
+package com.kei.review.analytics;
+
+final class ReadinessScores {
+    static final int CONSISTENCY_DAYS = 14;
+    static final int COVERED_MASTERY_PCT = 50;
+
+    private ReadinessScores() {
+    }
+
+    static int accuracy(long attempts, long correct) {
+        return attempts == 0 ? 0 : (int) Math.round((correct * 100.0) / attempts);
+    }
+
+    static int consistency(long activeDays) {
+        return (int) Math.round((activeDays / (double) CONSISTENCY_DAYS) * 100);
+    }
+
+    static int coverage(long topics, long covered) {
+        return topics == 0 ? 0 : (int) Math.round((covered * 100.0) / topics);
+    }
+
+    static int mockExams(Double average) {
+        return average == null ? 0 : (int) Math.round(average);
+    }
+
+    static int score(int accuracy, int consistency, int coverage, int mockExams) {
+        return (int) Math.round(
+            accuracy * 0.5 +
+            consistency * 0.2 +
+            coverage * 0.2 +
+            mockExams * 0.1
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.kei.review.analytics;
+
+public final class ScoreHistogram {
+    public static final int MAX_SCORE = 100;
+
+    private final long[] counts;
+    private long[] atOrAbove;
+
+    public ScoreHistogram() {
+        this.counts = new long[MAX_SCORE + 1];
+    }
+
+    public void add(int score) {
+        counts[clamp(score)] += 1;
+        atOrAbove = null;
+    }
+
+    public ScoreHistogram merge(ScoreHistogram other) {
+        for (int i = 0; i <= MAX_SCORE; i++) {
+            counts[i] += other.counts[i];
+        }
+        atOrAbove = null;
+        return this;
+    }
+
+    public ScoreHistogram freeze() {
+        long[] suffix = new long[MAX_SCORE + 2];
+        for (int i = MAX_SCORE; i >= 0; i--) {
+            suffix[i] = suffix[i + 1] + counts[i];
+        }
+        atOrAbove = suffix;
+        return this;
+    }
+
+    public long total() {
+        return frozen()[0];
+    }
+
+    public long countAtOrAbove(int score) {
+        return frozen()[clamp(score)];
+    }
+
+    public long countBelow(int score) {
+        return total() - countAtOrAbove(score);
+    }
+
+    public int percentile(int score) {
+        long total = total();
+        return total == 0 ? 0 : (int) Math.floor((countBelow(score) * 100.0) / total);
+    }
+
+    public int topPercent(int score) {
+        long total = total();
+        if (total == 0) {
+            return 0;
+        }
+        return (int) Math.max(1, Math.ceil((countAtOrAbove(score) * 100.0) / total));
+    }
+
+    private long[] frozen() {
+        long[] suffix = atOrAbove;
+        if (suffix == null) {
+            throw new IllegalStateException("Histogram is not frozen");
+        }
+        return suffix;
+    }
+
+    private static int clamp(int score) {
+        return Math.max(0, Math.min(MAX_SCORE, score));
+    }
+}
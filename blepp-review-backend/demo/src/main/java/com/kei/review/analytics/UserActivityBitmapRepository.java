@@ -0,0 +1,17 @@
+package com.kei.review.analytics;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserActivityBitmapRepository extends JpaRepository<UserActivityBitmap, UUID> {
+    @Query("""
+        select u.timeZone, b.originDay, b.bits
+        from User u
+        left join UserActivityBitmap b on b.user.id = u.id
+        where u.id = :userId
+        """)
+    List<Object[]> findActivityByUserId(@Param("userId") UUID userId);
+}
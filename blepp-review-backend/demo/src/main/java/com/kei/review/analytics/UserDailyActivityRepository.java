@@ -0,0 +1,19 @@
+package com.kei.review.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UUID> {
+    List<UserDailyActivity> findByUserIdAndActivityDateGreaterThanEqualOrderByActivityDateAsc(UUID userId, LocalDate from);
+
+    @Query("""
+        select coalesce(sum(a.attemptCount), 0), coalesce(sum(a.correctCount), 0), coalesce(sum(a.secondsStudied), 0)
+        from UserDailyActivity a
+        where a.user.id = :userId
+        """)
+    List<Object[]> sumTotalsByUserId(@Param("userId") UUID userId);
+}
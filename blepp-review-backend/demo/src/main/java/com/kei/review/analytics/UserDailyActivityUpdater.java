@@ -0,0 +1,103 @@
+package com.kei.review.analytics;
+
+import com.kei.review.users.UserTimeZones;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDailyActivityUpdater {
+    private static final String SELECT_TIME_ZONES_SQL = """
+        SELECT id, time_zone FROM users WHERE id = ANY (?)
+        """;
+
+    private static final String RECORD_ACTIVITY_SQL = """
+        INSERT INTO user_daily_activity (id, user_id, activity_date, attempt_count, correct_count, seconds_studied)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT (user_id, activity_date) DO UPDATE
+        SET attempt_count = user_daily_activity.attempt_count + EXCLUDED.attempt_count,
+            correct_count = user_daily_activity.correct_count + EXCLUDED.correct_count,
+            seconds_studied = user_daily_activity.seconds_studied + EXCLUDED.seconds_studied
+        """;
+
+    private static final String INSERT_BITMAP_SQL = """
+        INSERT INTO user_activity_bitmaps (id, user_id, origin_day, bits)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (user_id) DO NOTHING
+        """;
+
+    private static final String LOCK_BITMAP_SQL = """
+        SELECT origin_day, bits FROM user_activity_bitmaps WHERE user_id = ? FOR UPDATE
+        """;
+
+    private static final String UPDATE_BITMAP_SQL = """
+        UPDATE user_activity_bitmaps SET origin_day = ?, bits = ? WHERE user_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDailyActivityUpdater(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<UUID, ZoneId> timeZones(Collection<UUID> userIds) {
+        Map<UUID, ZoneId> zones = new HashMap<>();
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        jdbcTemplate.query(
+            SELECT_TIME_ZONES_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+            rs -> {
+                zones.put(rs.getObject("id", UUID.class), UserTimeZones.resolve(rs.getString("time_zone")));
+            }
+        );
+        return zones;
+    }
+
+    public void record(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RECORD_ACTIVITY_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, delta.userId());
+            ps.setDate(3, Date.valueOf(delta.date()));
+            ps.setInt(4, delta.attempts());
+            ps.setInt(5, delta.correct());
+            ps.setLong(6, delta.seconds());
+        });
+
+        Map<UUID, Set<LocalDate>> activeDays = new TreeMap<>();
+        for (Delta delta : deltas) {
+            if (delta.attempts() > 0) {
+                activeDays.computeIfAbsent(delta.userId(), id -> new TreeSet<>()).add(delta.date());
+            }
+        }
+        activeDays.forEach(this::markActive);
+    }
+
+    private void markActive(UUID userId, Set<LocalDate> days) {
+        LocalDate first = days.iterator().next();
+        jdbcTemplate.update(INSERT_BITMAP_SQL, UUID.randomUUID(), userId, Date.valueOf(first), new byte[0]);
+        ActivityBitmap current = jdbcTemplate.query(LOCK_BITMAP_SQL, rs -> rs.next()
+            ? ActivityBitmap.of(rs.getDate("origin_day").toLocalDate(), rs.getBytes("bits"))
+            : ActivityBitmap.empty(), userId);
+        if (current == null || days.stream().allMatch(current::isActive)) {
+            return;
+        }
+        ActivityBitmap updated = current.withActive(days);
+        jdbcTemplate.update(UPDATE_BITMAP_SQL, Date.valueOf(updated.origin()), updated.toBytes(), userId);
+    }
+
+    public record Delta(UUID userId, LocalDate date, int attempts, int correct, long seconds) {
+    }
+}
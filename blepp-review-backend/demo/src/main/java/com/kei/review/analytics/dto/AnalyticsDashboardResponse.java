@@ -0,0 +1,9 @@
+package com.kei.review.analytics.dto;
+
+public record AnalyticsDashboardResponse(
+    AnalyticsOverviewResponse overview,
+    TopicMasteryResponse topicMastery,
+    ReadinessResponse readiness,
+    AccuracyTrendResponse accuracyTrend
+) {
+}
@@ -0,0 +1,16 @@
+package com.kei.review.analytics.dto;
+
+import java.time.Instant;
+
+public record RankingResponse(
+    int readinessScore,
+    Integer readinessPercentile,
+    Integer readinessTopPercent,
+    long readinessCohortSize,
+    Integer mockExamAverage,
+    Integer mockExamPercentile,
+    Integer mockExamTopPercent,
+    long mockExamCohortSize,
+    Instant builtAt
+) {
+}
@@ -0,0 +1,50 @@
+package com.kei.review.auth;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class AdminAccess {
+    private final Set<String> adminEmails;
+    private final Set<String> proctorEmails;
+
+    public AdminAccess(
+        @Value("${app.admin.emails:}") String adminEmails,
+        @Value("${app.exams.proctor-emails:}") String proctorEmails
+    ) {
+        this.adminEmails = parseEmails(adminEmails);
+        this.proctorEmails = parseEmails(proctorEmails);
+    }
+
+    public boolean isAdmin(UserPrincipal principal) {
+        return principal != null && listed(adminEmails, principal.getUsername());
+    }
+
+    public void requireAdmin(UserPrincipal principal) {
+        if (!isAdmin(principal)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Admin access required.");
+        }
+    }
+
+    public boolean isProctor(String email) {
+        return listed(proctorEmails, email);
+    }
+
+    private static boolean listed(Set<String> emails, String email) {
+        return email != null && emails.contains(email.toLowerCase(Locale.ROOT));
+    }
+
+    private static Set<String> parseEmails(String emails) {
+        return Arrays.stream(emails.split(","))
+            .map(String::trim)
+            .filter(email -> !email.isEmpty())
+            .map(email -> email.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -6,6 +6,7 @@ import com.kei.review.auth.dto.RegisterRequest;
 import com.kei.review.auth.dto.OAuthCodeRequest;
 import com.kei.review.users.User;
 import com.kei.review.users.UserRepository;
+import com.kei.review.users.UserTimeZones;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -58,6 +59,7 @@ public class AuthServiceImpl implements AuthService {
             .fullName(request.fullName())
             .targetExamDate(request.targetExamDate())
             .dailyStudyHours(request.dailyStudyHours())
+            .timeZone(UserTimeZones.DEFAULT_TIME_ZONE)
             .createdAt(Instant.now())
             .updatedAt(Instant.now())
             .build();
@@ -216,6 +218,7 @@ public class AuthServiceImpl implements AuthService {
                 .passwordHash(passwordEncoder.encode(UUID.randomUUID().toString()))
                 .fullName(name)
                 .avatarUrl(avatarUrl)
+                .timeZone(UserTimeZones.DEFAULT_TIME_ZONE)
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .build();
@@ -0,0 +1,160 @@
+package com.kei.review.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public class BoundedCache<K, V> {
+    private final Duration ttl;
+    private final long maxWeight;
+    private final ToIntFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private long weight;
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, value -> 1);
+    }
+
+    public BoundedCache(long maxWeight, Duration ttl, ToIntFunction<? super V> weigher) {
+        this.ttl = ttl;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(Instant.now())) {
+            remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        return computeIfAbsent(key, loader, value -> Instant.now().plus(ttl));
+    }
+
+    public V computeIfAbsent(K key, Function<K, V> loader, Function<V, Instant> expiry) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, pending);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            V loaded = get(key);
+            if (loaded == null) {
+                loaded = loader.apply(key);
+                if (loaded != null) {
+                    Instant expiresAt = expiry.apply(loaded);
+                    if (expiresAt.isAfter(Instant.now())) {
+                        put(key, loaded, expiresAt);
+                    }
+                }
+            }
+            pending.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, pending);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Instant.now().plus(ttl));
+    }
+
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        insert(key, value, expiresAt);
+    }
+
+    public synchronized V putIfAbsent(K key, V value, Instant expiresAt) {
+        Entry<V> existing = entries.get(key);
+        if (existing != null && !existing.isExpired(Instant.now())) {
+            return existing.value();
+        }
+        insert(key, value, expiresAt);
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int evictExpired() {
+        Instant now = Instant.now();
+        int before = entries.size();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (entry.isExpired(now)) {
+                weight -= entry.weight();
+                iterator.remove();
+            }
+        }
+        return before - entries.size();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private void insert(K key, V value, Instant expiresAt) {
+        Entry<V> entry = new Entry<>(value, expiresAt, Math.max(1, weigher.applyAsInt(value)));
+        Entry<V> previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entry.weight();
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (weight > maxWeight && entries.size() > 1) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt, int weight) {
+        boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+}
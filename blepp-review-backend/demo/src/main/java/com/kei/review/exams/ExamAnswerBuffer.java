@@ -0,0 +1,242 @@
+package com.kei.review.exams;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ExamAnswerBuffer {
+    private static final Logger log = LoggerFactory.getLogger(ExamAnswerBuffer.class);
+
+    private static final String UPSERT_ANSWER_SQL = """
+        INSERT INTO exam_answers (id, exam_session_id, question_id, selected_answer_index, correct)
+        SELECT ?, s.id, ?, ?, ?
+        FROM exam_sessions s
+        JOIN mock_exams m ON m.id = s.mock_exam_id
+        WHERE s.id = ?
+          AND s.submitted_at IS NULL
+          AND (m.duration_minutes IS NULL OR ? <= s.started_at + make_interval(mins => m.duration_minutes))
+        ON CONFLICT (exam_session_id, question_id)
+        DO UPDATE SET selected_answer_index = EXCLUDED.selected_answer_index, correct = EXCLUDED.correct
+        """;
+
+    private static final String UPSERT_FLAG_SQL = """
+        INSERT INTO exam_flags (id, exam_session_id, question_id, flagged)
+        SELECT ?, s.id, ?, ?
+        FROM exam_sessions s
+        JOIN mock_exams m ON m.id = s.mock_exam_id
+        WHERE s.id = ?
+          AND s.submitted_at IS NULL
+          AND (m.duration_minutes IS NULL OR ? <= s.started_at + make_interval(mins => m.duration_minutes))
+        ON CONFLICT (exam_session_id, question_id)
+        DO UPDATE SET flagged = EXCLUDED.flagged
+        """;
+
+    private static final String UPDATE_COUNTS_SQL = """
+        UPDATE exam_sessions SET answered_count = ?, correct_count = ? WHERE id = ? AND submitted_at IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPendingPerSession;
+    private final Map<UUID, SessionBuffer> buffers = new ConcurrentHashMap<>();
+
+    public ExamAnswerBuffer(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.exams.answer-buffer.max-pending:50}") int maxPendingPerSession
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxPendingPerSession = maxPendingPerSession;
+    }
+
+    public void record(
+        UUID sessionId,
+        UUID questionId,
+        Integer selectedAnswerIndex,
+        boolean correct,
+        boolean flagged,
+        Instant answeredAt,
+        ExamScoreTally.Counts counts
+    ) {
+        PendingAnswer answer = new PendingAnswer(questionId, selectedAnswerIndex, correct, flagged, answeredAt);
+        while (true) {
+            SessionBuffer buffer = buffers.computeIfAbsent(sessionId, id -> new SessionBuffer());
+            int pending = buffer.put(answer, counts);
+            if (pending >= 0) {
+                if (pending >= maxPendingPerSession) {
+                    flush(sessionId);
+                }
+                return;
+            }
+            buffers.remove(sessionId, buffer);
+        }
+    }
+
+    public void recordAll(UUID sessionId, List<PendingAnswer> answers, ExamScoreTally.Counts counts) {
+        while (true) {
+            SessionBuffer buffer = buffers.computeIfAbsent(sessionId, id -> new SessionBuffer());
+            if (buffer.putAll(answers, counts)) {
+                write(sessionId, buffer);
+                return;
+            }
+            buffers.remove(sessionId, buffer);
+        }
+    }
+
+    public void flush(UUID sessionId) {
+        SessionBuffer buffer = buffers.get(sessionId);
+        if (buffer != null) {
+            write(sessionId, buffer);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.exams.answer-buffer.flush-interval-ms:2000}")
+    public void flushAll() {
+        for (Map.Entry<UUID, SessionBuffer> entry : buffers.entrySet()) {
+            try {
+                write(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush exam answers for session {}", entry.getKey(), e);
+                continue;
+            }
+            if (entry.getValue().closeIfEmpty()) {
+                buffers.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+    }
+
+    private void write(UUID sessionId, SessionBuffer buffer) {
+        buffer.flushLock.lock();
+        try {
+            Drained drained = buffer.drain();
+            List<PendingAnswer> batch = drained.answers();
+            ExamScoreTally.Counts counts = drained.counts();
+            if (batch.isEmpty() && counts == null) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!batch.isEmpty()) {
+                        upsert(sessionId, batch);
+                    }
+                    if (counts != null) {
+                        jdbcTemplate.update(UPDATE_COUNTS_SQL, counts.answered(), counts.correct(), sessionId);
+                    }
+                });
+            } catch (RuntimeException e) {
+                buffer.requeue(batch, counts);
+                throw e;
+            }
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    private void upsert(UUID sessionId, List<PendingAnswer> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_ANSWER_SQL, batch, batch.size(), (ps, answer) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, answer.questionId());
+            ps.setObject(3, answer.selectedAnswerIndex(), Types.INTEGER);
+            ps.setBoolean(4, answer.correct());
+            ps.setObject(5, sessionId);
+            ps.setTimestamp(6, Timestamp.from(answer.answeredAt()));
+        });
+        jdbcTemplate.batchUpdate(UPSERT_FLAG_SQL, batch, batch.size(), (ps, answer) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, answer.questionId());
+            ps.setBoolean(3, answer.flagged());
+            ps.setObject(4, sessionId);
+            ps.setTimestamp(5, Timestamp.from(answer.answeredAt()));
+        });
+    }
+
+    record PendingAnswer(
+        UUID questionId,
+        Integer selectedAnswerIndex,
+        boolean correct,
+        boolean flagged,
+        Instant answeredAt
+    ) {
+    }
+
+    private record Drained(List<PendingAnswer> answers, ExamScoreTally.Counts counts) {
+    }
+
+    private static final class SessionBuffer {
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final Map<UUID, PendingAnswer> pending = new LinkedHashMap<>();
+        private ExamScoreTally.Counts counts;
+        private boolean closed;
+
+        synchronized int put(PendingAnswer answer, ExamScoreTally.Counts latest) {
+            return putAll(List.of(answer), latest) ? pending.size() : -1;
+        }
+
+        synchronized boolean putAll(List<PendingAnswer> answers, ExamScoreTally.Counts latest) {
+            if (closed) {
+                return false;
+            }
+            for (PendingAnswer answer : answers) {
+                pending.put(answer.questionId(), answer);
+            }
+            if (latest != null && (counts == null || latest.version() > counts.version())) {
+                counts = latest;
+            }
+            return true;
+        }
+
+        synchronized Drained drain() {
+            Drained drained = new Drained(List.copyOf(pending.values()), counts);
+            pending.clear();
+            counts = null;
+            return drained;
+        }
+
+        synchronized void requeue(List<PendingAnswer> batch, ExamScoreTally.Counts drained) {
+            for (PendingAnswer answer : batch) {
+                pending.putIfAbsent(answer.questionId(), answer);
+            }
+            if (drained != null && counts == null) {
+                counts = drained;
+            }
+        }
+
+        boolean closeIfEmpty() {
+            if (!flushLock.tryLock()) {
+                return false;
+            }
+            try {
+                synchronized (this) {
+                    closed = pending.isEmpty() && counts == null;
+                    return closed;
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+}
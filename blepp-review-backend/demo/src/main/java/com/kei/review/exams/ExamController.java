@@ -1,15 +1,19 @@
 package com.kei.review.exams;
 
 import com.kei.review.auth.UserPrincipal;
+import com.kei.review.exams.dto.ExamAnswerBatchResponse;
 import com.kei.review.exams.dto.ExamAnswerRequest;
 import com.kei.review.exams.dto.ExamFlagResponse;
 import com.kei.review.exams.dto.ExamResponse;
 import com.kei.review.exams.dto.ExamResultResponse;
+import com.kei.review.exams.dto.ExamSessionQuestionPage;
 import com.kei.review.exams.dto.ExamSessionQuestionResponse;
 import com.kei.review.exams.dto.ExamSessionResponse;
 import com.kei.review.exams.dto.ExamSubmitResponse;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +21,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/exams")
@@ -51,6 +58,15 @@ public class ExamController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/session/{sessionId}/answers")
+    public ResponseEntity<ExamAnswerBatchResponse> recordAnswers(
+        @PathVariable UUID sessionId,
+        @RequestBody List<ExamAnswerRequest> requests,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(examService.recordAnswers(principal.getId(), sessionId, requests));
+    }
+
     @PostMapping("/session/{sessionId}/submit")
     public ResponseEntity<ExamSubmitResponse> submit(
         @PathVariable UUID sessionId,
@@ -69,10 +85,49 @@ public class ExamController {
 
     @GetMapping("/session/{sessionId}/questions")
     public ResponseEntity<List<ExamSessionQuestionResponse>> listQuestions(
+        @PathVariable UUID sessionId,
+        @AuthenticationPrincipal UserPrincipal principal,
+        WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(examService.sessionQuestionsVersion(principal.getId(), sessionId))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(examService.listSessionQuestions(principal.getId(), sessionId));
+    }
+
+    @GetMapping("/session/{sessionId}/questions/page")
+    public ResponseEntity<ExamSessionQuestionPage> listQuestionPage(
+        @PathVariable UUID sessionId,
+        @RequestParam(required = false) Integer after,
+        @RequestParam(defaultValue = "25") int limit,
+        @RequestParam(defaultValue = "false") boolean compact,
+        @AuthenticationPrincipal UserPrincipal principal,
+        WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(examService.sessionQuestionsVersion(principal.getId(), sessionId))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(examService.listSessionQuestions(principal.getId(), sessionId, after, limit, compact));
+    }
+
+    @GetMapping(value = "/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(
+        @RequestParam List<UUID> sessionIds,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return examService.streamProgress(principal.getId(), sessionIds);
+    }
+
+    @GetMapping(value = "/session/{sessionId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSessionProgress(
         @PathVariable UUID sessionId,
         @AuthenticationPrincipal UserPrincipal principal
     ) {
-        return ResponseEntity.ok(examService.listSessionQuestions(principal.getId(), sessionId));
+        return examService.streamProgress(principal.getId(), List.of(sessionId));
     }
 
     @GetMapping("/session/{sessionId}/results")
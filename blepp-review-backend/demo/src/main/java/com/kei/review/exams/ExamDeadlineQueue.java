@@ -0,0 +1,49 @@
+package com.kei.review.exams;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamDeadlineQueue {
+    private final DelayQueue<Deadline> deadlines = new DelayQueue<>();
+
+    public void register(UUID sessionId, Instant dueAt) {
+        register(sessionId, dueAt, 0);
+    }
+
+    public void register(UUID sessionId, Instant dueAt, int failedAttempts) {
+        deadlines.put(new Deadline(sessionId, dueAt, failedAttempts));
+    }
+
+    public List<Deadline> drainExpired(int maxBatch) {
+        List<Deadline> expired = new ArrayList<>();
+        deadlines.drainTo(expired, maxBatch);
+        return expired;
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    public record Deadline(UUID sessionId, Instant dueAt, int failedAttempts) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long millis = dueAt.toEpochMilli() - System.currentTimeMillis();
+            return unit.convert(millis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Deadline deadline) {
+                return dueAt.compareTo(deadline.dueAt);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.kei.review.exams;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamDeadlineScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ExamDeadlineScheduler.class);
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final ExamDeadlineQueue deadlineQueue;
+    private final ExamSessionRepository examSessionRepository;
+    private final ExamService examService;
+    private final int batchSize;
+    private final int maxRetries;
+
+    public ExamDeadlineScheduler(
+        ExamDeadlineQueue deadlineQueue,
+        ExamSessionRepository examSessionRepository,
+        ExamService examService,
+        @Value("${app.exams.deadline.batch-size:200}") int batchSize,
+        @Value("${app.exams.deadline.max-retries:5}") int maxRetries
+    ) {
+        this.deadlineQueue = deadlineQueue;
+        this.examSessionRepository = examSessionRepository;
+        this.examService = examService;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerOpenSessions() {
+        for (Object[] row : examSessionRepository.findOpenSessionDurations()) {
+            UUID sessionId = (UUID) row[0];
+            Instant startedAt = (Instant) row[1];
+            Integer durationMinutes = (Integer) row[2];
+            if (startedAt != null) {
+                deadlineQueue.register(sessionId, startedAt.plus(Duration.ofMinutes(durationMinutes)));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.exams.deadline.poll-interval-ms:1000}")
+    public void submitExpired() {
+        List<ExamDeadlineQueue.Deadline> expired = deadlineQueue.drainExpired(batchSize);
+        while (!expired.isEmpty()) {
+            Map<UUID, ExamDeadlineQueue.Deadline> bySession = expired.stream()
+                .collect(Collectors.toMap(ExamDeadlineQueue.Deadline::sessionId, Function.identity(), (a, b) -> a));
+            Set<UUID> failed = examService.autoSubmit(bySession.keySet());
+            Instant retryAt = Instant.now().plus(RETRY_DELAY);
+            for (UUID sessionId : failed) {
+                int attempts = bySession.get(sessionId).failedAttempts() + 1;
+                if (attempts > maxRetries) {
+                    log.error("Giving up auto-submitting exam session {} after {} attempts", sessionId, attempts);
+                    continue;
+                }
+                deadlineQueue.register(sessionId, retryAt, attempts);
+            }
+            expired = deadlineQueue.drainExpired(batchSize);
+        }
+    }
+}
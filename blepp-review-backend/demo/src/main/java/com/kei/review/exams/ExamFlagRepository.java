@@ -8,4 +8,5 @@ import java.util.List;
 public interface ExamFlagRepository extends JpaRepository<ExamFlag, UUID> {
     Optional<ExamFlag> findByExamSessionIdAndQuestionId(UUID examSessionId, UUID questionId);
     List<ExamFlag> findByExamSessionId(UUID examSessionId);
+    long countByExamSessionIdAndFlaggedTrue(UUID examSessionId);
 }
@@ -0,0 +1,155 @@
+package com.kei.review.exams;
+
+import com.kei.review.exams.dto.ExamProgressEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class ExamProgressBus {
+    private final Map<UUID, Set<Subscriber>> subscribersBySession = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    public ExamProgressBus(
+        @Value("${app.exams.progress.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${app.exams.progress.max-subscribers:1000}") int maxSubscribers
+    ) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public SseEmitter subscribe(Collection<ExamProgressEvent> initial) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many progress subscribers.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        for (ExamProgressEvent event : initial) {
+            subscriber.sessionIds.add(event.sessionId());
+            subscribersBySession.computeIfAbsent(event.sessionId(), id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            subscriber.pending.put(event.sessionId(), event);
+        }
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public void publish(ExamProgressEvent event) {
+        Set<Subscriber> watching = subscribersBySession.get(event.sessionId());
+        if (watching == null) {
+            return;
+        }
+        for (Subscriber subscriber : watching) {
+            subscriber.pending.put(event.sessionId(), event);
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.exams.progress.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            senders.execute(() -> {
+                if (!subscriber.sendLock.tryLock()) {
+                    return;
+                }
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.emitter.completeWithError(e);
+                    unsubscribe(subscriber);
+                } finally {
+                    subscriber.sendLock.unlock();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdown();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            for (UUID sessionId : subscriber.pending.keySet()) {
+                ExamProgressEvent event = subscriber.pending.remove(sessionId);
+                if (event == null) {
+                    continue;
+                }
+                subscriber.sendLock.lock();
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name("progress").data(event));
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.emitter.completeWithError(e);
+                    unsubscribe(subscriber);
+                    return;
+                } finally {
+                    subscriber.sendLock.unlock();
+                }
+            }
+            subscriber.scheduled.set(false);
+            if (subscriber.pending.isEmpty() || !subscriber.scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        for (UUID sessionId : subscriber.sessionIds) {
+            subscribersBySession.computeIfPresent(sessionId, (id, watching) -> {
+                watching.remove(subscriber);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+        subscriber.pending.clear();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<UUID> sessionIds = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, ExamProgressEvent> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock sendLock = new ReentrantLock();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
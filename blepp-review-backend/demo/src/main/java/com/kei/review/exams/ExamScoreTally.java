@@ -0,0 +1,98 @@
+package com.kei.review.exams;
+
+import com.kei.review.exams.dto.ExamResultResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ExamScoreTally {
+    private static final byte UNANSWERED = 0;
+    private static final byte INCORRECT = 1;
+    private static final byte CORRECT = 2;
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final byte[] states;
+    private final boolean[] flags;
+    private final int[] topicOfItem;
+    private final List<String> topicNames = new ArrayList<>();
+    private final int[] topicTotals;
+    private final int[] topicCorrect;
+    private int answered;
+    private int correct;
+    private int flagged;
+
+    public ExamScoreTally(List<ExamSessionSnapshot.Item> items) {
+        this.states = new byte[items.size()];
+        this.flags = new boolean[items.size()];
+        this.topicOfItem = new int[items.size()];
+        Map<UUID, Integer> topicIndexes = new HashMap<>();
+        for (ExamSessionSnapshot.Item item : items) {
+            Integer topicIndex = topicIndexes.get(item.topicId());
+            if (topicIndex == null) {
+                topicIndex = topicNames.size();
+                topicIndexes.put(item.topicId(), topicIndex);
+                topicNames.add(item.topicName());
+            }
+            topicOfItem[item.orderIndex()] = topicIndex;
+        }
+        this.topicTotals = new int[topicNames.size()];
+        this.topicCorrect = new int[topicNames.size()];
+        for (int topicIndex : topicOfItem) {
+            topicTotals[topicIndex] += 1;
+        }
+    }
+
+    public synchronized Counts apply(int orderIndex, Integer selectedAnswerIndex, boolean isCorrect, boolean isFlagged) {
+        flag(orderIndex, isFlagged);
+        return apply(orderIndex, selectedAnswerIndex, isCorrect);
+    }
+
+    public synchronized Counts flag(int orderIndex, boolean isFlagged) {
+        if (flags[orderIndex] != isFlagged) {
+            flags[orderIndex] = isFlagged;
+            flagged += isFlagged ? 1 : -1;
+        }
+        return counts();
+    }
+
+    public synchronized Counts apply(int orderIndex, Integer selectedAnswerIndex, boolean isCorrect) {
+        byte next = selectedAnswerIndex == null ? UNANSWERED : isCorrect ? CORRECT : INCORRECT;
+        byte previous = states[orderIndex];
+        if (previous != next) {
+            int topicIndex = topicOfItem[orderIndex];
+            if (previous == UNANSWERED) {
+                answered += 1;
+            } else if (next == UNANSWERED) {
+                answered -= 1;
+            }
+            if (previous == CORRECT) {
+                correct -= 1;
+                topicCorrect[topicIndex] -= 1;
+            } else if (next == CORRECT) {
+                correct += 1;
+                topicCorrect[topicIndex] += 1;
+            }
+            states[orderIndex] = next;
+        }
+        return new Counts(VERSIONS.incrementAndGet(), answered, correct, flagged);
+    }
+
+    public synchronized Counts counts() {
+        return new Counts(VERSIONS.incrementAndGet(), answered, correct, flagged);
+    }
+
+    public synchronized List<ExamResultResponse.TopicScore> topicScores() {
+        List<ExamResultResponse.TopicScore> scores = new ArrayList<>(topicNames.size());
+        for (int i = 0; i < topicNames.size(); i++) {
+            scores.add(new ExamResultResponse.TopicScore(topicNames.get(i), topicCorrect[i], topicTotals[i]));
+        }
+        scores.sort((a, b) -> a.topicName().compareTo(b.topicName()));
+        return scores;
+    }
+
+    public record Counts(long version, int answered, int correct, int flagged) {
+    }
+}
@@ -1,21 +1,31 @@
 package com.kei.review.exams;
 
+import com.kei.review.exams.dto.ExamAnswerBatchResponse;
 import com.kei.review.exams.dto.ExamAnswerRequest;
 import com.kei.review.exams.dto.ExamFlagResponse;
 import com.kei.review.exams.dto.ExamResponse;
 import com.kei.review.exams.dto.ExamResultResponse;
+import com.kei.review.exams.dto.ExamSessionQuestionPage;
 import com.kei.review.exams.dto.ExamSessionQuestionResponse;
 import com.kei.review.exams.dto.ExamSessionResponse;
 import com.kei.review.exams.dto.ExamSubmitResponse;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface ExamService {
     List<ExamResponse> listExams();
     ExamSessionResponse startSession(UUID userId, UUID examId);
     void recordAnswer(UUID userId, UUID sessionId, ExamAnswerRequest request);
+    ExamAnswerBatchResponse recordAnswers(UUID userId, UUID sessionId, List<ExamAnswerRequest> requests);
     ExamSubmitResponse submit(UUID userId, UUID sessionId);
+    Set<UUID> autoSubmit(Collection<UUID> sessionIds);
     List<ExamFlagResponse> listFlags(UUID userId, UUID sessionId);
     List<ExamSessionQuestionResponse> listSessionQuestions(UUID userId, UUID sessionId);
+    ExamSessionQuestionPage listSessionQuestions(UUID userId, UUID sessionId, Integer after, int limit, boolean compact);
+    String sessionQuestionsVersion(UUID userId, UUID sessionId);
     ExamResultResponse results(UUID userId, UUID sessionId);
+    SseEmitter streamProgress(UUID userId, List<UUID> sessionIds);
 }
@@ -1,51 +1,111 @@
 package com.kei.review.exams;
 
+import com.kei.review.analytics.AnalyticsDashboardCache;
+import com.kei.review.auth.AdminAccess;
+import com.kei.review.cache.BoundedCache;
+import com.kei.review.exams.dto.ExamAnswerBatchResponse;
 import com.kei.review.exams.dto.ExamAnswerRequest;
 import com.kei.review.exams.dto.ExamFlagResponse;
+import com.kei.review.exams.dto.ExamProgressEvent;
 import com.kei.review.exams.dto.ExamResponse;
 import com.kei.review.exams.dto.ExamResultResponse;
+import com.kei.review.exams.dto.ExamSessionQuestionPage;
 import com.kei.review.exams.dto.ExamSessionQuestionResponse;
 import com.kei.review.exams.dto.ExamSessionResponse;
 import com.kei.review.exams.dto.ExamSubmitResponse;
 import com.kei.review.questions.Question;
+import com.kei.review.questions.QuestionIdIndex;
 import com.kei.review.questions.QuestionRepository;
 import com.kei.review.users.User;
 import com.kei.review.users.UserRepository;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class ExamServiceImpl implements ExamService {
+    private static final Logger log = LoggerFactory.getLogger(ExamServiceImpl.class);
+
+    private static final String INSERT_SESSION_QUESTION_SQL = """
+        INSERT INTO exam_session_questions (id, exam_session_id, question_id, order_index)
+        VALUES (?, ?, ?, ?)
+        """;
+    private static final int MAX_PROGRESS_SESSIONS = 200;
+    private static final int MAX_QUESTION_PAGE_SIZE = 100;
+    private static final int MAX_ANSWER_BATCH_SIZE = 200;
+
     private final MockExamRepository mockExamRepository;
     private final ExamSessionRepository examSessionRepository;
-    private final ExamAnswerRepository examAnswerRepository;
     private final ExamFlagRepository examFlagRepository;
     private final ExamSessionQuestionRepository examSessionQuestionRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
+    private final ExamAnswerBuffer answerBuffer;
+    private final ExamSessionSnapshotCache snapshotCache;
+    private final QuestionIdIndex questionIdIndex;
+    private final ExamDeadlineQueue deadlineQueue;
+    private final ExamProgressBus progressBus;
+    private final AnalyticsDashboardCache analyticsDashboardCache;
+    private final AdminAccess adminAccess;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoundedCache<UUID, CachedResult> resultCache = new BoundedCache<>(2000, Duration.ofHours(6));
 
     public ExamServiceImpl(
         MockExamRepository mockExamRepository,
         ExamSessionRepository examSessionRepository,
-        ExamAnswerRepository examAnswerRepository,
         ExamFlagRepository examFlagRepository,
         ExamSessionQuestionRepository examSessionQuestionRepository,
         QuestionRepository questionRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        ExamAnswerBuffer answerBuffer,
+        ExamSessionSnapshotCache snapshotCache,
+        QuestionIdIndex questionIdIndex,
+        ExamDeadlineQueue deadlineQueue,
+        ExamProgressBus progressBus,
+        AnalyticsDashboardCache analyticsDashboardCache,
+        AdminAccess adminAccess,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
     ) {
         this.mockExamRepository = mockExamRepository;
         this.examSessionRepository = examSessionRepository;
-        this.examAnswerRepository = examAnswerRepository;
         this.examFlagRepository = examFlagRepository;
         this.examSessionQuestionRepository = examSessionQuestionRepository;
         this.questionRepository = questionRepository;
         this.userRepository = userRepository;
+        this.answerBuffer = answerBuffer;
+        this.snapshotCache = snapshotCache;
+        this.questionIdIndex = questionIdIndex;
+        this.deadlineQueue = deadlineQueue;
+        this.progressBus = progressBus;
+        this.analyticsDashboardCache = analyticsDashboardCache;
+        this.adminAccess = adminAccess;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -75,7 +135,10 @@ public class ExamServiceImpl implements ExamService {
             .build();
 
         ExamSession saved = examSessionRepository.save(session);
-        assignQuestions(saved, userId);
+        snapshotCache.create(saved, assignQuestions(saved, userId));
+        if (exam.getDurationMinutes() != null) {
+            deadlineQueue.register(saved.getId(), saved.getStartedAt().plus(Duration.ofMinutes(exam.getDurationMinutes())));
+        }
         return new ExamSessionResponse(
             saved.getId(),
             exam.getId(),
@@ -86,43 +149,71 @@ public class ExamServiceImpl implements ExamService {
 
     @Override
     public void recordAnswer(UUID userId, UUID sessionId, ExamAnswerRequest request) {
-        ExamSession session = examSessionRepository.findById(sessionId)
-            .orElseThrow(() -> new IllegalStateException("Session not found"));
-        if (!session.getUser().getId().equals(userId)) {
-            throw new IllegalStateException("Session not found");
+        Instant answeredAt = Instant.now();
+        ExamSessionSnapshot snapshot = loadSnapshot(userId, sessionId);
+        requireOpen(snapshot, answeredAt);
+        ExamSessionSnapshot.Item item = snapshot.item(request.questionId());
+        if (item == null) {
+            throw new IllegalStateException("Question not in session");
         }
 
-        Question question = questionRepository.findById(request.questionId())
-            .orElseThrow(() -> new IllegalStateException("Question not found"));
-        if (!question.getOwner().getId().equals(userId)) {
-            throw new IllegalStateException("Question not found");
+        boolean correct = item.isCorrect(request.selectedAnswerIndex());
+        ExamScoreTally.Counts counts = snapshot.tally()
+            .apply(item.orderIndex(), request.selectedAnswerIndex(), correct, request.flagged());
+
+        answerBuffer.record(
+            sessionId,
+            item.questionId(),
+            request.selectedAnswerIndex(),
+            correct,
+            request.flagged(),
+            answeredAt,
+            counts
+        );
+        progressBus.publish(toProgress(snapshot, counts));
+    }
+
+    @Override
+    public ExamAnswerBatchResponse recordAnswers(UUID userId, UUID sessionId, List<ExamAnswerRequest> requests) {
+        if (requests.size() > MAX_ANSWER_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most 200 answers can be submitted per batch.");
         }
-        examSessionQuestionRepository.findByExamSessionIdAndQuestionId(sessionId, question.getId())
-            .orElseThrow(() -> new IllegalStateException("Question not in session"));
+        Instant answeredAt = Instant.now();
+        ExamSessionSnapshot snapshot = loadSnapshot(userId, sessionId);
+        requireOpen(snapshot, answeredAt);
+        List<ExamAnswerBatchResponse.Item> results = new ArrayList<>(requests.size());
+        List<ExamAnswerBuffer.PendingAnswer> answers = new ArrayList<>(requests.size());
+        ExamScoreTally.Counts counts = null;
 
-        boolean correct = request.selectedAnswerIndex() != null
-            && request.selectedAnswerIndex().equals(question.getCorrectAnswerIndex());
+        for (int i = 0; i < requests.size(); i++) {
+            ExamAnswerRequest request = requests.get(i);
+            ExamSessionSnapshot.Item item = snapshot.item(request.questionId());
+            if (item == null) {
+                results.add(new ExamAnswerBatchResponse.Item(
+                    i,
+                    request.questionId(),
+                    ExamAnswerBatchResponse.Status.QUESTION_NOT_IN_SESSION
+                ));
+                continue;
+            }
 
-        ExamAnswer answer = examAnswerRepository.findByExamSessionIdAndQuestionId(sessionId, question.getId())
-            .orElseGet(() -> ExamAnswer.builder()
-                .examSession(session)
-                .question(question)
-                .build()
-            );
-        answer.setSelectedAnswerIndex(request.selectedAnswerIndex());
-        answer.setCorrect(correct);
-        examAnswerRepository.save(answer);
+            boolean correct = item.isCorrect(request.selectedAnswerIndex());
+            counts = snapshot.tally().apply(item.orderIndex(), request.selectedAnswerIndex(), correct, request.flagged());
+            answers.add(new ExamAnswerBuffer.PendingAnswer(
+                item.questionId(),
+                request.selectedAnswerIndex(),
+                correct,
+                request.flagged(),
+                answeredAt
+            ));
+            results.add(new ExamAnswerBatchResponse.Item(i, item.questionId(), ExamAnswerBatchResponse.Status.RECORDED));
+        }
 
-        ExamFlag flag = examFlagRepository
-            .findByExamSessionIdAndQuestionId(sessionId, question.getId())
-            .orElseGet(() -> ExamFlag.builder()
-                .examSession(session)
-                .question(question)
-                .flagged(false)
-                .build()
-            );
-        flag.setFlagged(request.flagged());
-        examFlagRepository.save(flag);
+        if (!answers.isEmpty()) {
+            answerBuffer.recordAll(sessionId, answers, counts);
+            progressBus.publish(toProgress(snapshot, counts));
+        }
+        return new ExamAnswerBatchResponse(answers.size(), requests.size() - answers.size(), results);
     }
 
     @Override
@@ -133,19 +224,32 @@ public class ExamServiceImpl implements ExamService {
             throw new IllegalStateException("Session not found");
         }
 
-        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
-        long correctCount = answers.stream().filter(ExamAnswer::isCorrect).count();
-        int totalQuestions = session.getMockExam().getTotalQuestions() != null
-            ? session.getMockExam().getTotalQuestions()
-            : answers.size();
-
-        int score = totalQuestions == 0 ? 0 : (int) Math.round((correctCount * 100.0) / totalQuestions);
-
-        session.setScore(score);
-        session.setSubmittedAt(Instant.now());
-        examSessionRepository.save(session);
+        return finish(session, Instant.now());
+    }
 
-        return new ExamSubmitResponse(session.getId(), score, totalQuestions);
+    @Override
+    public Set<UUID> autoSubmit(Collection<UUID> sessionIds) {
+        Instant now = Instant.now();
+        Set<UUID> failed = new HashSet<>();
+        for (UUID sessionId : sessionIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    examSessionRepository.findById(sessionId)
+                        .filter(session -> session.getSubmittedAt() == null)
+                        .ifPresent(session -> {
+                            Integer durationMinutes = session.getMockExam().getDurationMinutes();
+                            Instant deadline = durationMinutes != null
+                                ? session.getStartedAt().plus(Duration.ofMinutes(durationMinutes))
+                                : now;
+                            finish(session, deadline.isBefore(now) ? deadline : now);
+                        })
+                );
+            } catch (RuntimeException e) {
+                log.warn("Failed to auto-submit exam session {}", sessionId, e);
+                failed.add(sessionId);
+            }
+        }
+        return failed;
     }
 
     @Override
@@ -156,6 +260,7 @@ public class ExamServiceImpl implements ExamService {
             throw new IllegalStateException("Session not found");
         }
 
+        answerBuffer.flush(sessionId);
         return examFlagRepository.findByExamSessionId(sessionId).stream()
             .map(flag -> new ExamFlagResponse(flag.getQuestion().getId(), flag.isFlagged()))
             .toList();
@@ -163,86 +268,277 @@ public class ExamServiceImpl implements ExamService {
 
     @Override
     public List<ExamSessionQuestionResponse> listSessionQuestions(UUID userId, UUID sessionId) {
-        ExamSession session = examSessionRepository.findById(sessionId)
-            .orElseThrow(() -> new IllegalStateException("Session not found"));
-        if (!session.getUser().getId().equals(userId)) {
-            throw new IllegalStateException("Session not found");
-        }
-
-        return examSessionQuestionRepository.findByExamSessionIdOrderByOrderIndexAsc(sessionId)
-            .stream()
+        return loadSnapshot(userId, sessionId).items().stream()
             .map(item -> new ExamSessionQuestionResponse(
-                item.getQuestion().getId(),
-                item.getQuestion().getText(),
-                item.getQuestion().getChoices()
+                item.questionId(),
+                item.text(),
+                item.choices()
             ))
             .toList();
     }
 
+    @Override
+    public ExamSessionQuestionPage listSessionQuestions(
+        UUID userId,
+        UUID sessionId,
+        Integer after,
+        int limit,
+        boolean compact
+    ) {
+        List<ExamSessionSnapshot.Item> items = loadSnapshot(userId, sessionId).items();
+        int from = after == null ? 0 : (int) Math.min(items.size(), Math.max(0, after + 1L));
+        int to = Math.min(items.size(), from + Math.max(1, Math.min(limit, MAX_QUESTION_PAGE_SIZE)));
+        List<ExamSessionQuestionPage.Item> page = from >= to
+            ? List.of()
+            : items.subList(from, to).stream()
+                .map(item -> new ExamSessionQuestionPage.Item(
+                    item.orderIndex(),
+                    item.questionId(),
+                    item.text(),
+                    compact ? null : item.choices()
+                ))
+                .toList();
+        Integer nextCursor = to < items.size() ? to - 1 : null;
+        return new ExamSessionQuestionPage(page, nextCursor, items.size());
+    }
+
+    @Override
+    public String sessionQuestionsVersion(UUID userId, UUID sessionId) {
+        return loadSnapshot(userId, sessionId).contentVersion();
+    }
+
     @Override
     public ExamResultResponse results(UUID userId, UUID sessionId) {
+        CachedResult cached = resultCache.get(sessionId);
+        if (cached != null) {
+            if (!cached.userId().equals(userId)) {
+                throw new IllegalStateException("Session not found");
+            }
+            return cached.response();
+        }
+
+        ExamSessionSnapshot snapshot = snapshotCache.get(sessionId);
+        if (snapshot != null && !snapshot.items().isEmpty()) {
+            if (!snapshot.userId().equals(userId)) {
+                throw new IllegalStateException("Session not found");
+            }
+            return toResult(snapshot);
+        }
+
         ExamSession session = examSessionRepository.findById(sessionId)
             .orElseThrow(() -> new IllegalStateException("Session not found"));
         if (!session.getUser().getId().equals(userId)) {
             throw new IllegalStateException("Session not found");
         }
 
-        List<ExamSessionQuestion> sessionQuestions =
-            examSessionQuestionRepository.findByExamSessionIdOrderByOrderIndexAsc(sessionId);
-        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
+        answerBuffer.flush(sessionId);
+        List<ExamResultResponse.TopicScore> topicScores =
+            examSessionQuestionRepository.aggregateTopicScores(sessionId);
 
-        Map<UUID, ExamAnswer> answerByQuestion = answers.stream()
-            .collect(Collectors.toMap(a -> a.getQuestion().getId(), a -> a, (a, b) -> a));
+        int totalQuestions = topicScores.stream().mapToInt(ExamResultResponse.TopicScore::total).sum();
+        if (topicScores.isEmpty() && session.getMockExam().getTotalQuestions() != null) {
+            totalQuestions = session.getMockExam().getTotalQuestions();
+        }
+        int correctCount = topicScores.stream().mapToInt(ExamResultResponse.TopicScore::correct).sum();
+        int score = totalQuestions == 0 ? 0 : (int) Math.round((correctCount * 100.0) / totalQuestions);
 
-        int totalQuestions = sessionQuestions.isEmpty()
-            ? session.getMockExam().getTotalQuestions()
-            : sessionQuestions.size();
+        ExamResultResponse response = new ExamResultResponse(score, totalQuestions, correctCount, topicScores);
+        if (session.getSubmittedAt() != null) {
+            resultCache.put(sessionId, new CachedResult(userId, response));
+        }
+        return response;
+    }
 
-        long correctCount = answers.stream().filter(ExamAnswer::isCorrect).count();
-        int score = totalQuestions == 0 ? 0 : (int) Math.round((correctCount * 100.0) / totalQuestions);
+    private ExamSubmitResponse finish(ExamSession session, Instant submittedAt) {
+        UUID sessionId = session.getId();
+        MockExam exam = session.getMockExam();
+        if (session.getSubmittedAt() != null) {
+            int totalQuestions = exam.getTotalQuestions() != null ? exam.getTotalQuestions() : 0;
+            return new ExamSubmitResponse(sessionId, session.getScore(), totalQuestions);
+        }
 
-        Map<String, List<ExamSessionQuestion>> byTopic = sessionQuestions.stream()
-            .collect(Collectors.groupingBy(q -> q.getQuestion().getTopic().getName()));
+        ExamSessionSnapshot snapshot = snapshotCache.get(sessionId);
+        if (snapshot == null) {
+            snapshot = snapshotCache.load(session);
+        }
+        answerBuffer.flush(sessionId);
+        ExamScoreTally.Counts counts = snapshot.tally().counts();
+        int totalQuestions = exam.getTotalQuestions() != null
+            ? exam.getTotalQuestions()
+            : counts.answered();
+
+        int score = totalQuestions == 0 ? 0 : (int) Math.round((counts.correct() * 100.0) / totalQuestions);
 
-        List<ExamResultResponse.TopicScore> topicScores = new ArrayList<>();
-        for (Map.Entry<String, List<ExamSessionQuestion>> entry : byTopic.entrySet()) {
-            String topicName = entry.getKey();
-            List<ExamSessionQuestion> items = entry.getValue();
-            int total = items.size();
-            int correct = (int) items.stream()
-                .filter(item -> {
-                    ExamAnswer answer = answerByQuestion.get(item.getQuestion().getId());
-                    return answer != null && answer.isCorrect();
-                })
-                .count();
-            topicScores.add(new ExamResultResponse.TopicScore(topicName, correct, total));
+        long elapsedSeconds = Math.max(0, Duration.between(session.getStartedAt(), submittedAt).getSeconds());
+        if (exam.getDurationMinutes() != null) {
+            elapsedSeconds = Math.min(elapsedSeconds, exam.getDurationMinutes() * 60L);
         }
 
-        return new ExamResultResponse(score, totalQuestions, (int) correctCount, topicScores);
+        session.setScore(score);
+        session.setSubmittedAt(submittedAt);
+        session.setGradedAt(Instant.now());
+        session.setTimeTakenSeconds((int) elapsedSeconds);
+        examSessionRepository.save(session);
+
+        ExamSessionSnapshot submitted = snapshot;
+        ExamProgressEvent event = new ExamProgressEvent(
+            sessionId,
+            snapshot.userId(),
+            counts.answered(),
+            counts.flagged(),
+            totalQuestions,
+            true,
+            score
+        );
+        afterCommit(() -> {
+            snapshotCache.evict(sessionId);
+            analyticsDashboardCache.invalidate(List.of(submitted.userId()));
+            if (!submitted.items().isEmpty()) {
+                resultCache.put(sessionId, new CachedResult(submitted.userId(), toResult(submitted)));
+            }
+            progressBus.publish(event);
+        });
+
+        return new ExamSubmitResponse(sessionId, score, totalQuestions);
     }
 
-    private void assignQuestions(ExamSession session, UUID userId) {
-        List<Question> pool = session.getMockExam().getTopic() != null
-            ? questionRepository.findByOwnerIdAndTopicId(userId, session.getMockExam().getTopic().getId())
-            : questionRepository.findByOwnerId(userId);
-        if (pool.isEmpty()) {
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
             return;
         }
-        Collections.shuffle(pool);
-        int target = session.getMockExam().getTotalQuestions() != null
-            ? session.getMockExam().getTotalQuestions()
-            : pool.size();
-        int count = Math.min(target, pool.size());
-
-        List<ExamSessionQuestion> items = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            items.add(ExamSessionQuestion.builder()
-                .examSession(session)
-                .question(pool.get(i))
-                .orderIndex(i)
-                .build()
-            );
-        }
-        examSessionQuestionRepository.saveAll(items);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public SseEmitter streamProgress(UUID userId, List<UUID> sessionIds) {
+        if (sessionIds.isEmpty() || sessionIds.size() > MAX_PROGRESS_SESSIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and 200 sessionIds are required.");
+        }
+
+        Boolean proctor = null;
+        List<ExamProgressEvent> initial = new ArrayList<>();
+        for (UUID sessionId : new LinkedHashSet<>(sessionIds)) {
+            ExamSessionSnapshot snapshot = snapshotCache.get(sessionId);
+            if (snapshot != null && snapshot.submitted()) {
+                snapshot = null;
+            }
+            ExamSession session = null;
+            if (snapshot == null) {
+                session = examSessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new IllegalStateException("Session not found"));
+            }
+            UUID ownerId = snapshot != null ? snapshot.userId() : session.getUser().getId();
+            if (!ownerId.equals(userId)) {
+                if (proctor == null) {
+                    proctor = isProctor(userId);
+                }
+                if (!proctor) {
+                    throw new IllegalStateException("Session not found");
+                }
+            }
+
+            if (snapshot == null && session.getSubmittedAt() != null) {
+                initial.add(new ExamProgressEvent(
+                    sessionId,
+                    ownerId,
+                    session.getAnsweredCount() != null ? session.getAnsweredCount() : 0,
+                    (int) examFlagRepository.countByExamSessionIdAndFlaggedTrue(sessionId),
+                    session.getMockExam().getTotalQuestions() != null ? session.getMockExam().getTotalQuestions() : 0,
+                    true,
+                    session.getScore()
+                ));
+                continue;
+            }
+            if (snapshot == null) {
+                snapshot = snapshotCache.load(session);
+            }
+            initial.add(toProgress(snapshot, snapshot.tally().counts()));
+        }
+        return progressBus.subscribe(initial);
+    }
+
+    private boolean isProctor(UUID userId) {
+        return userRepository.findById(userId)
+            .map(user -> adminAccess.isProctor(user.getEmail()))
+            .orElse(false);
+    }
+
+    private ExamProgressEvent toProgress(ExamSessionSnapshot snapshot, ExamScoreTally.Counts counts) {
+        return new ExamProgressEvent(
+            snapshot.sessionId(),
+            snapshot.userId(),
+            counts.answered(),
+            counts.flagged(),
+            snapshot.items().size(),
+            false,
+            null
+        );
+    }
+
+    private ExamResultResponse toResult(ExamSessionSnapshot snapshot) {
+        ExamScoreTally.Counts counts = snapshot.tally().counts();
+        int totalQuestions = snapshot.items().size();
+        int score = totalQuestions == 0 ? 0 : (int) Math.round((counts.correct() * 100.0) / totalQuestions);
+        return new ExamResultResponse(score, totalQuestions, counts.correct(), snapshot.tally().topicScores());
+    }
+
+    private void requireOpen(ExamSessionSnapshot snapshot, Instant at) {
+        if (!snapshot.acceptsAnswersAt(at)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Exam session is closed.");
+        }
+    }
+
+    private ExamSessionSnapshot loadSnapshot(UUID userId, UUID sessionId) {
+        ExamSessionSnapshot snapshot = snapshotCache.get(sessionId);
+        if (snapshot == null) {
+            ExamSession session = examSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalStateException("Session not found"));
+            snapshot = snapshotCache.load(session);
+        }
+        if (!snapshot.userId().equals(userId)) {
+            throw new IllegalStateException("Session not found");
+        }
+        return snapshot;
+    }
+
+    private List<Question> assignQuestions(ExamSession session, UUID userId) {
+        MockExam exam = session.getMockExam();
+        UUID topicId = exam.getTopic() != null ? exam.getTopic().getId() : null;
+        int target = exam.getTotalQuestions() != null ? exam.getTotalQuestions() : Integer.MAX_VALUE;
+        List<UUID> questionIds = questionIdIndex.sample(userId, topicId, target);
+        if (questionIds.isEmpty()) {
+            return List.of();
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SESSION_QUESTION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, session.getId());
+                ps.setObject(3, questionIds.get(i));
+                ps.setInt(4, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return questionIds.size();
+            }
+        });
+
+        Map<UUID, Question> byId = questionRepository.findWithChoicesByIdIn(questionIds).stream()
+            .collect(Collectors.toMap(Question::getId, Function.identity(), (a, b) -> a));
+        return questionIds.stream()
+            .map(byId::get)
+            .filter(question -> question != null)
+            .toList();
+    }
+
+    private record CachedResult(UUID userId, ExamResultResponse response) {
     }
 }
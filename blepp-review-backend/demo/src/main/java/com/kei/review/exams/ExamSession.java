@@ -1,6 +1,7 @@
 package com.kei.review.exams;
 
 import com.kei.review.users.User;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -41,7 +42,15 @@ public class ExamSession {
 
     private Instant submittedAt;
 
+    private Instant gradedAt;
+
     private Integer score;
 
     private Integer timeTakenSeconds;
+
+    @Column(insertable = false, updatable = false)
+    private Integer answeredCount;
+
+    @Column(insertable = false, updatable = false)
+    private Integer correctCount;
 }
@@ -1,11 +1,34 @@
 package com.kei.review.exams;
 
+import com.kei.review.exams.dto.ExamResultResponse;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExamSessionQuestionRepository extends JpaRepository<ExamSessionQuestion, UUID> {
     List<ExamSessionQuestion> findByExamSessionIdOrderByOrderIndexAsc(UUID examSessionId);
     Optional<ExamSessionQuestion> findByExamSessionIdAndQuestionId(UUID examSessionId, UUID questionId);
+
+    @EntityGraph(attributePaths = {"question", "question.topic", "question.choices"})
+    List<ExamSessionQuestion> findWithQuestionByExamSessionIdOrderByOrderIndexAsc(UUID examSessionId);
+
+    @Query("""
+        select new com.kei.review.exams.dto.ExamResultResponse$TopicScore(
+            t.name,
+            sum(case when a.correct = true then 1L else 0L end),
+            count(sq.id)
+        )
+        from ExamSessionQuestion sq
+        join sq.question q
+        join q.topic t
+        left join ExamAnswer a on a.examSession.id = sq.examSession.id and a.question.id = q.id
+        where sq.examSession.id = :sessionId
+        group by t.name
+        order by t.name
+        """)
+    List<ExamResultResponse.TopicScore> aggregateTopicScores(@Param("sessionId") UUID sessionId);
 }
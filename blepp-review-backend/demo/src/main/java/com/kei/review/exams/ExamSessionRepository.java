@@ -3,7 +3,20 @@ package com.kei.review.exams;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExamSessionRepository extends JpaRepository<ExamSession, UUID> {
     List<ExamSession> findByUserId(UUID userId);
+
+    @Query("""
+        select s.id, s.startedAt, e.durationMinutes
+        from ExamSession s
+        join s.mockExam e
+        where s.submittedAt is null and e.durationMinutes is not null
+        """)
+    List<Object[]> findOpenSessionDurations();
+
+    @Query("select avg(s.score) from ExamSession s where s.user.id = :userId and s.score is not null")
+    Double averageScoreByUserId(@Param("userId") UUID userId);
 }
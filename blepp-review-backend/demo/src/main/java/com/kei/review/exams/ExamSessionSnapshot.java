@@ -0,0 +1,69 @@
+package com.kei.review.exams;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+public record ExamSessionSnapshot(
+    UUID sessionId,
+    UUID userId,
+    Instant expiresAt,
+    Instant deadline,
+    boolean submitted,
+    List<Item> items,
+    Map<UUID, Item> itemsByQuestionId,
+    ExamScoreTally tally,
+    String contentVersion
+) {
+    public static ExamSessionSnapshot of(
+        UUID sessionId,
+        UUID userId,
+        Instant expiresAt,
+        Instant deadline,
+        boolean submitted,
+        List<Item> items
+    ) {
+        Map<UUID, Item> byQuestion = new HashMap<>();
+        int contentHash = 1;
+        for (Item item : items) {
+            byQuestion.put(item.questionId(), item);
+            contentHash = 31 * contentHash + Objects.hash(item.questionId(), item.text(), item.choices());
+        }
+        return new ExamSessionSnapshot(
+            sessionId,
+            userId,
+            expiresAt,
+            deadline,
+            submitted,
+            List.copyOf(items),
+            Map.copyOf(byQuestion),
+            new ExamScoreTally(items),
+            sessionId + "-" + items.size() + "-" + Integer.toHexString(contentHash)
+        );
+    }
+
+    public boolean acceptsAnswersAt(Instant at) {
+        return !submitted && (deadline == null || !at.isAfter(deadline));
+    }
+
+    public Item item(UUID questionId) {
+        return questionId == null ? null : itemsByQuestionId.get(questionId);
+    }
+
+    public record Item(
+        int orderIndex,
+        UUID questionId,
+        String text,
+        List<String> choices,
+        Integer correctAnswerIndex,
+        UUID topicId,
+        String topicName
+    ) {
+        public boolean isCorrect(Integer selectedAnswerIndex) {
+            return selectedAnswerIndex != null && selectedAnswerIndex.equals(correctAnswerIndex);
+        }
+    }
+}
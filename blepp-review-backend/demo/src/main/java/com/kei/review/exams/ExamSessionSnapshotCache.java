@@ -0,0 +1,148 @@
+package com.kei.review.exams;
+
+import com.kei.review.cache.BoundedCache;
+import com.kei.review.questions.Question;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExamSessionSnapshotCache {
+    private static final Duration DEFAULT_SESSION_LENGTH = Duration.ofHours(6);
+    private static final Duration EXPIRY_GRACE = Duration.ofMinutes(30);
+    private static final Duration SUBMITTED_TTL = Duration.ofHours(1);
+
+    private final ExamSessionQuestionRepository examSessionQuestionRepository;
+    private final ExamAnswerRepository examAnswerRepository;
+    private final ExamFlagRepository examFlagRepository;
+    private final ExamAnswerBuffer answerBuffer;
+    private final BoundedCache<UUID, ExamSessionSnapshot> snapshots;
+
+    public ExamSessionSnapshotCache(
+        ExamSessionQuestionRepository examSessionQuestionRepository,
+        ExamAnswerRepository examAnswerRepository,
+        ExamFlagRepository examFlagRepository,
+        ExamAnswerBuffer answerBuffer,
+        @Value("${app.exams.snapshot-cache.max-weight-chars:50000000}") long maxWeightChars
+    ) {
+        this.examSessionQuestionRepository = examSessionQuestionRepository;
+        this.examAnswerRepository = examAnswerRepository;
+        this.examFlagRepository = examFlagRepository;
+        this.answerBuffer = answerBuffer;
+        this.snapshots = new BoundedCache<>(maxWeightChars, DEFAULT_SESSION_LENGTH, ExamSessionSnapshotCache::weigh);
+    }
+
+    public ExamSessionSnapshot get(UUID sessionId) {
+        return snapshots.get(sessionId);
+    }
+
+    public ExamSessionSnapshot load(ExamSession session) {
+        return snapshots.computeIfAbsent(session.getId(), id -> read(session), this::cacheExpiry);
+    }
+
+    public ExamSessionSnapshot create(ExamSession session, List<Question> orderedQuestions) {
+        ExamSessionSnapshot snapshot = build(session, orderedQuestions);
+        Instant expiresAt = cacheExpiry(snapshot);
+        if (!expiresAt.isAfter(Instant.now())) {
+            return snapshot;
+        }
+        return snapshots.putIfAbsent(session.getId(), snapshot, expiresAt);
+    }
+
+    public void evict(UUID sessionId) {
+        snapshots.invalidate(sessionId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.exams.snapshot-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        snapshots.evictExpired();
+    }
+
+    private ExamSessionSnapshot read(ExamSession session) {
+        List<Question> questions = examSessionQuestionRepository
+            .findWithQuestionByExamSessionIdOrderByOrderIndexAsc(session.getId())
+            .stream()
+            .map(ExamSessionQuestion::getQuestion)
+            .toList();
+        ExamSessionSnapshot snapshot = build(session, questions);
+
+        answerBuffer.flush(session.getId());
+        for (ExamAnswer answer : examAnswerRepository.findByExamSessionId(session.getId())) {
+            ExamSessionSnapshot.Item item = snapshot.item(answer.getQuestion().getId());
+            if (item != null) {
+                snapshot.tally().apply(item.orderIndex(), answer.getSelectedAnswerIndex(), answer.isCorrect());
+            }
+        }
+        for (ExamFlag flag : examFlagRepository.findByExamSessionId(session.getId())) {
+            ExamSessionSnapshot.Item item = snapshot.item(flag.getQuestion().getId());
+            if (item != null && flag.isFlagged()) {
+                snapshot.tally().flag(item.orderIndex(), true);
+            }
+        }
+        return snapshot;
+    }
+
+    private ExamSessionSnapshot build(ExamSession session, List<Question> orderedQuestions) {
+        List<ExamSessionSnapshot.Item> items = new ArrayList<>(orderedQuestions.size());
+        for (Question question : orderedQuestions) {
+            items.add(toItem(items.size(), question));
+        }
+        return ExamSessionSnapshot.of(
+            session.getId(),
+            session.getUser().getId(),
+            expiresAt(session),
+            deadline(session),
+            session.getSubmittedAt() != null,
+            items
+        );
+    }
+
+    private Instant cacheExpiry(ExamSessionSnapshot snapshot) {
+        return snapshot.submitted() ? Instant.now().plus(SUBMITTED_TTL) : snapshot.expiresAt();
+    }
+
+    private static int weigh(ExamSessionSnapshot snapshot) {
+        long chars = 0;
+        for (ExamSessionSnapshot.Item item : snapshot.items()) {
+            chars += item.text() != null ? item.text().length() : 0;
+            for (String choice : item.choices()) {
+                chars += choice.length();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars);
+    }
+
+    private Instant deadline(ExamSession session) {
+        Integer durationMinutes = session.getMockExam().getDurationMinutes();
+        if (durationMinutes == null || session.getStartedAt() == null) {
+            return null;
+        }
+        return session.getStartedAt().plus(Duration.ofMinutes(durationMinutes));
+    }
+
+    private Instant expiresAt(ExamSession session) {
+        Instant startedAt = session.getStartedAt() != null ? session.getStartedAt() : Instant.now();
+        Integer durationMinutes = session.getMockExam().getDurationMinutes();
+        Duration length = durationMinutes != null
+            ? Duration.ofMinutes(durationMinutes)
+            : DEFAULT_SESSION_LENGTH;
+        return startedAt.plus(length).plus(EXPIRY_GRACE);
+    }
+
+    private ExamSessionSnapshot.Item toItem(int orderIndex, Question question) {
+        return new ExamSessionSnapshot.Item(
+            orderIndex,
+            question.getId(),
+            question.getText(),
+            List.copyOf(question.getChoices()),
+            question.getCorrectAnswerIndex(),
+            question.getTopic().getId(),
+            question.getTopic().getName()
+        );
+    }
+}
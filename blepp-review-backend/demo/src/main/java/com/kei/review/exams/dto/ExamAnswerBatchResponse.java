@@ -0,0 +1,22 @@
+package com.kei.review.exams.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ExamAnswerBatchResponse(
+    int recorded,
+    int rejected,
+    List<Item> items
+) {
+    public enum Status {
+        RECORDED,
+        QUESTION_NOT_IN_SESSION
+    }
+
+    public record Item(
+        int index,
+        UUID questionId,
+        Status status
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.kei.review.exams.dto;
+
+import java.util.UUID;
+
+public record ExamProgressEvent(
+    UUID sessionId,
+    UUID userId,
+    int answered,
+    int flagged,
+    int totalQuestions,
+    boolean submitted,
+    Integer score
+) {
+}
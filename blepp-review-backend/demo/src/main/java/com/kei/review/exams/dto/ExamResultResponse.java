@@ -9,5 +9,12 @@ public record ExamResultResponse(
     List<TopicScore> topicScores
 ) {
     public record TopicScore(String topicName, Integer correct, Integer total) {
+        public TopicScore(String topicName, Long correct, Long total) {
+            this(
+                topicName,
+                correct == null ? 0 : correct.intValue(),
+                total == null ? 0 : total.intValue()
+            );
+        }
     }
 }
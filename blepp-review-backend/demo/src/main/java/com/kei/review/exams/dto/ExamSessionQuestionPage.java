@@ -0,0 +1,18 @@
+package com.kei.review.exams.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ExamSessionQuestionPage(
+    List<Item> items,
+    Integer nextCursor,
+    int totalQuestions
+) {
+    public record Item(
+        int orderIndex,
+        UUID questionId,
+        String text,
+        List<String> choices
+    ) {
+    }
+}
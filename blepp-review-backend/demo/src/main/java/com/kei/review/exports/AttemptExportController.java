@@ -0,0 +1,62 @@
+package com.kei.review.exports;
+
+import com.kei.review.auth.AdminAccess;
+import com.kei.review.auth.UserPrincipal;
+import com.kei.review.exports.dto.AttemptExportRequest;
+import com.kei.review.exports.dto.AttemptExportResponse;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/exports/attempts")
+public class AttemptExportController {
+    private final AttemptExportService exportService;
+    private final AdminAccess adminAccess;
+
+    public AttemptExportController(AttemptExportService exportService, AdminAccess adminAccess) {
+        this.exportService = exportService;
+        this.adminAccess = adminAccess;
+    }
+
+    @PostMapping
+    public ResponseEntity<AttemptExportResponse> start(
+        @AuthenticationPrincipal UserPrincipal principal,
+        @RequestBody(required = false) AttemptExportRequest request
+    ) {
+        adminAccess.requireAdmin(principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportService.start(principal.getId(), request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AttemptExportResponse>> recent(@AuthenticationPrincipal UserPrincipal principal) {
+        adminAccess.requireAdmin(principal);
+        return ResponseEntity.ok(exportService.recent());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AttemptExportResponse> status(
+        @AuthenticationPrincipal UserPrincipal principal,
+        @PathVariable UUID jobId
+    ) {
+        adminAccess.requireAdmin(principal);
+        return ResponseEntity.ok(exportService.status(jobId));
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<AttemptExportResponse> resume(
+        @AuthenticationPrincipal UserPrincipal principal,
+        @PathVariable UUID jobId
+    ) {
+        adminAccess.requireAdmin(principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportService.resume(jobId));
+    }
+}
@@ -0,0 +1,73 @@
+package com.kei.review.exports;
+
+import com.kei.review.users.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "attempt_export_jobs")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttemptExportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "requested_by", nullable = false)
+    private User requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttemptExportStatus status;
+
+    @Column(nullable = false)
+    private Instant rangeStart;
+
+    @Column(nullable = false)
+    private Instant rangeEnd;
+
+    @Column(nullable = false)
+    private Instant lastCreatedAt;
+
+    @Column(nullable = false)
+    private UUID lastId;
+
+    @Column(nullable = false)
+    private long rowsExported;
+
+    @Column(nullable = false)
+    private int filesWritten;
+
+    @Column(nullable = false)
+    private String directory;
+
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    private Instant completedAt;
+}
@@ -0,0 +1,12 @@
+package com.kei.review.exports;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AttemptExportJobRepository extends JpaRepository<AttemptExportJob, UUID> {
+    List<AttemptExportJob> findByStatusInOrderByCreatedAtAsc(Collection<AttemptExportStatus> statuses);
+
+    List<AttemptExportJob> findTop50ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,16 @@
+package com.kei.review.exports;
+
+import com.kei.review.exports.dto.AttemptExportRequest;
+import com.kei.review.exports.dto.AttemptExportResponse;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttemptExportService {
+    AttemptExportResponse start(UUID userId, AttemptExportRequest request);
+
+    AttemptExportResponse resume(UUID jobId);
+
+    AttemptExportResponse status(UUID jobId);
+
+    List<AttemptExportResponse> recent();
+}
@@ -0,0 +1,118 @@
+package com.kei.review.exports;
+
+import com.kei.review.exports.dto.AttemptExportRequest;
+import com.kei.review.exports.dto.AttemptExportResponse;
+import com.kei.review.users.User;
+import com.kei.review.users.UserRepository;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class AttemptExportServiceImpl implements AttemptExportService {
+    private static final UUID KEYSET_ORIGIN = new UUID(0L, 0L);
+
+    private final AttemptExportJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final AttemptExporter exporter;
+    private final String exportDir;
+    private final Duration settleLag;
+
+    public AttemptExportServiceImpl(
+        AttemptExportJobRepository jobRepository,
+        UserRepository userRepository,
+        AttemptExporter exporter,
+        @Value("${app.exports.directory:exports}") String exportDir,
+        @Value("${app.exports.settle-lag-seconds:300}") long settleLagSeconds
+    ) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.exporter = exporter;
+        this.exportDir = exportDir;
+        this.settleLag = Duration.ofSeconds(settleLagSeconds);
+    }
+
+    @Override
+    public AttemptExportResponse start(UUID userId, AttemptExportRequest request) {
+        Instant now = Instant.now();
+        Instant settled = now.minus(settleLag);
+        Instant from = request != null && request.from() != null ? request.from() : Instant.EPOCH;
+        Instant to = request != null && request.to() != null && request.to().isBefore(settled) ? request.to() : settled;
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to.");
+        }
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found."));
+
+        AttemptExportJob job = jobRepository.save(AttemptExportJob.builder()
+            .requestedBy(user)
+            .status(AttemptExportStatus.PENDING)
+            .rangeStart(from)
+            .rangeEnd(to)
+            .lastCreatedAt(from)
+            .lastId(KEYSET_ORIGIN)
+            .directory("")
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+        job.setDirectory(Paths.get(exportDir, "attempts-" + job.getId()).toAbsolutePath().normalize().toString());
+        AttemptExportJob saved = jobRepository.save(job);
+
+        exporter.submit(saved.getId());
+        return toResponse(saved);
+    }
+
+    @Override
+    public AttemptExportResponse resume(UUID jobId) {
+        AttemptExportJob job = findJob(jobId);
+        if (job.getStatus() != AttemptExportStatus.FAILED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Only failed exports can be resumed.");
+        }
+        job.setStatus(AttemptExportStatus.PENDING);
+        job.setError(null);
+        job.setUpdatedAt(Instant.now());
+        AttemptExportJob saved = jobRepository.save(job);
+
+        exporter.submit(saved.getId());
+        return toResponse(saved);
+    }
+
+    @Override
+    public AttemptExportResponse status(UUID jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    @Override
+    public List<AttemptExportResponse> recent() {
+        return jobRepository.findTop50ByOrderByCreatedAtDesc().stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    private AttemptExportJob findJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Export job not found."));
+    }
+
+    private AttemptExportResponse toResponse(AttemptExportJob job) {
+        return new AttemptExportResponse(
+            job.getId(),
+            job.getStatus(),
+            job.getRangeStart(),
+            job.getRangeEnd(),
+            job.getLastCreatedAt(),
+            job.getRowsExported(),
+            job.getFilesWritten(),
+            job.getDirectory(),
+            job.getError(),
+            job.getCreatedAt(),
+            job.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.kei.review.exports;
+
+public enum AttemptExportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,273 @@
+package com.kei.review.exports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AttemptExporter {
+    private static final Logger log = LoggerFactory.getLogger(AttemptExporter.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String PAGE_SQL = """
+        SELECT aa.id, aa.created_at, aa.user_id, aa.question_id, q.topic_id, aa.practice_session_id,
+               aa.selected_answer_index, aa.correct, aa.time_taken_seconds
+        FROM answer_attempts aa
+        LEFT JOIN questions q ON q.id = aa.question_id
+        WHERE (aa.created_at, aa.id) > (?, ?) AND aa.created_at < ?
+        ORDER BY aa.created_at, aa.id
+        LIMIT ?
+        """;
+
+    private static final String CHECKPOINT_SQL = """
+        SELECT range_end, last_created_at, last_id, rows_exported, files_written, directory
+        FROM attempt_export_jobs
+        WHERE id = ?
+        """;
+
+    private static final String CLAIM_SQL = """
+        UPDATE attempt_export_jobs SET status = 'RUNNING', updated_at = ? WHERE id = ? AND status = 'PENDING'
+        """;
+
+    private static final String ADVANCE_SQL = """
+        UPDATE attempt_export_jobs
+        SET last_created_at = ?, last_id = ?, rows_exported = ?, files_written = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
+    private static final String FINISH_SQL = """
+        UPDATE attempt_export_jobs SET status = ?, error = ?, completed_at = ?, updated_at = ? WHERE id = ?
+        """;
+
+    private static final String REQUEUE_RUNNING_SQL = """
+        UPDATE attempt_export_jobs SET status = 'PENDING', updated_at = ? WHERE status = 'RUNNING'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttemptExportJobRepository jobRepository;
+    private final int pageSize;
+    private final int rowsPerFile;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("attempt-export-", 0).factory()
+    );
+    private volatile boolean stopping;
+
+    public AttemptExporter(
+        JdbcTemplate jdbcTemplate,
+        AttemptExportJobRepository jobRepository,
+        @Value("${app.exports.attempts.page-size:5000}") int pageSize,
+        @Value("${app.exports.attempts.rows-per-file:1000000}") int rowsPerFile
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.pageSize = pageSize;
+        this.rowsPerFile = rowsPerFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        jdbcTemplate.update(REQUEUE_RUNNING_SQL, Timestamp.from(Instant.now()));
+        List<AttemptExportJob> pending = jobRepository.findByStatusInOrderByCreatedAtAsc(
+            List.of(AttemptExportStatus.PENDING)
+        );
+        for (AttemptExportJob job : pending) {
+            submit(job.getId());
+        }
+    }
+
+    public void submit(UUID jobId) {
+        runner.execute(() -> run(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        runner.shutdown();
+        runner.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run(UUID jobId) {
+        if (stopping || jdbcTemplate.update(CLAIM_SQL, Timestamp.from(Instant.now()), jobId) == 0) {
+            return;
+        }
+        try {
+            AttemptExportStatus outcome = export(jobId);
+            finish(jobId, outcome, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Attempt export {} failed, resumable from its last checkpoint", jobId, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finish(jobId, AttemptExportStatus.FAILED, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }
+    }
+
+    private AttemptExportStatus export(UUID jobId) throws IOException {
+        Checkpoint checkpoint = jdbcTemplate.queryForObject(
+            CHECKPOINT_SQL,
+            (rs, rowNum) -> new Checkpoint(
+                rs.getTimestamp("range_end").toInstant(),
+                rs.getTimestamp("last_created_at").toInstant(),
+                rs.getObject("last_id", UUID.class),
+                rs.getLong("rows_exported"),
+                rs.getInt("files_written"),
+                rs.getString("directory")
+            ),
+            jobId
+        );
+        Path directory = Paths.get(checkpoint.directory());
+        Files.createDirectories(directory);
+
+        Cursor cursor = new Cursor(checkpoint.lastCreatedAt(), checkpoint.lastId());
+        long rowsExported = checkpoint.rowsExported();
+        int filesWritten = checkpoint.filesWritten();
+        while (!stopping) {
+            Path target = directory.resolve("part-%05d.ndjson.gz".formatted(filesWritten));
+            Path temp = directory.resolve(target.getFileName() + ".tmp");
+            int rows = writePart(temp, cursor, checkpoint.rangeEnd());
+            if (rows == 0) {
+                Files.deleteIfExists(temp);
+                return cursor.exhausted ? AttemptExportStatus.COMPLETED : AttemptExportStatus.PENDING;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            rowsExported += rows;
+            filesWritten += 1;
+            jdbcTemplate.update(
+                ADVANCE_SQL,
+                Timestamp.from(cursor.lastCreatedAt),
+                cursor.lastId,
+                rowsExported,
+                filesWritten,
+                Timestamp.from(Instant.now()),
+                jobId
+            );
+            if (cursor.exhausted) {
+                return AttemptExportStatus.COMPLETED;
+            }
+        }
+        return AttemptExportStatus.PENDING;
+    }
+
+    private int writePart(Path file, Cursor cursor, Instant rangeEnd) throws IOException {
+        int rows = 0;
+        try (
+            OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), 64 * 1024);
+            JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)
+        ) {
+            generator.setRootValueSeparator(null);
+            while (rows < rowsPerFile && !stopping) {
+                int limit = Math.min(pageSize, rowsPerFile - rows);
+                int fetched = writePage(generator, cursor, rangeEnd, limit);
+                rows += fetched;
+                if (fetched < limit) {
+                    cursor.exhausted = true;
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private int writePage(JsonGenerator generator, Cursor cursor, Instant rangeEnd, int limit) {
+        int[] fetched = new int[1];
+        jdbcTemplate.query(
+            PAGE_SQL,
+            rs -> {
+                try {
+                    writeRow(generator, rs);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to write export file", e);
+                }
+                cursor.lastCreatedAt = rs.getTimestamp("created_at").toInstant();
+                cursor.lastId = rs.getObject("id", UUID.class);
+                fetched[0]++;
+            },
+            Timestamp.from(cursor.lastCreatedAt),
+            cursor.lastId,
+            Timestamp.from(rangeEnd),
+            limit
+        );
+        return fetched[0];
+    }
+
+    private void writeRow(JsonGenerator generator, ResultSet rs) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeStringField("id", rs.getString("id"));
+        generator.writeStringField("createdAt", rs.getTimestamp("created_at").toInstant().toString());
+        generator.writeStringField("userId", rs.getString("user_id"));
+        generator.writeStringField("questionId", rs.getString("question_id"));
+        generator.writeStringField("topicId", rs.getString("topic_id"));
+        generator.writeStringField("practiceSessionId", rs.getString("practice_session_id"));
+        writeNullableInt(generator, "selectedAnswerIndex", rs.getObject("selected_answer_index", Integer.class));
+        generator.writeBooleanField("correct", rs.getBoolean("correct"));
+        writeNullableInt(generator, "timeTakenSeconds", rs.getObject("time_taken_seconds", Integer.class));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeNullableInt(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private void finish(UUID jobId, AttemptExportStatus status, String error) {
+        Instant now = Instant.now();
+        jdbcTemplate.update(
+            FINISH_SQL,
+            status.name(),
+            error,
+            status == AttemptExportStatus.COMPLETED ? Timestamp.from(now) : null,
+            Timestamp.from(now),
+            jobId
+        );
+    }
+
+    private record Checkpoint(
+        Instant rangeEnd,
+        Instant lastCreatedAt,
+        UUID lastId,
+        long rowsExported,
+        int filesWritten,
+        String directory
+    ) {
+    }
+
+    private static final class Cursor {
+        private Instant lastCreatedAt;
+        private UUID lastId;
+        private boolean exhausted;
+
+        private Cursor(Instant lastCreatedAt, UUID lastId) {
+            this.lastCreatedAt = lastCreatedAt;
+            this.lastId = lastId;
+        }
+    }
+}
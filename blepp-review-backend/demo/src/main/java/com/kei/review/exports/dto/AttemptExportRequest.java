@@ -0,0 +1,6 @@
+package com.kei.review.exports.dto;
+
+import java.time.Instant;
+
+public record AttemptExportRequest(Instant from, Instant to) {
+}
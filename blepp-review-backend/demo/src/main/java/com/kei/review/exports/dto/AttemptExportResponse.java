@@ -0,0 +1,20 @@
+package com.kei.review.exports.dto;
+
+import com.kei.review.exports.AttemptExportStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+public record AttemptExportResponse(
+    UUID jobId,
+    AttemptExportStatus status,
+    Instant rangeStart,
+    Instant rangeEnd,
+    Instant checkpoint,
+    long rowsExported,
+    int filesWritten,
+    String directory,
+    String error,
+    Instant createdAt,
+    Instant completedAt
+) {
+}
@@ -2,11 +2,10 @@ package com.kei.review.lessons;
 
 import com.kei.review.lessons.dto.LessonProgressRequest;
 import com.kei.review.lessons.dto.LessonProgressResponse;
-import com.kei.review.practice.AnswerAttemptRepository;
+import com.kei.review.practice.QuestionSelectionEngine;
 import com.kei.review.topics.Topic;
+import com.kei.review.topics.TopicMasteryUpdater;
 import com.kei.review.topics.TopicRepository;
-import com.kei.review.topics.UserTopic;
-import com.kei.review.topics.UserTopicRepository;
 import com.kei.review.users.User;
 import com.kei.review.users.UserRepository;
 import java.time.Instant;
@@ -20,24 +19,21 @@ public class LessonProgressServiceImpl implements LessonProgressService {
     private final LessonProgressRepository lessonProgressRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
-    private final UserTopicRepository userTopicRepository;
-    private final AnswerAttemptRepository answerAttemptRepository;
-    private final LessonCatalog lessonCatalog;
+    private final TopicMasteryUpdater topicMasteryUpdater;
+    private final QuestionSelectionEngine questionSelectionEngine;
 
     public LessonProgressServiceImpl(
         LessonProgressRepository lessonProgressRepository,
         UserRepository userRepository,
         TopicRepository topicRepository,
-        UserTopicRepository userTopicRepository,
-        AnswerAttemptRepository answerAttemptRepository,
-        LessonCatalog lessonCatalog
+        TopicMasteryUpdater topicMasteryUpdater,
+        QuestionSelectionEngine questionSelectionEngine
     ) {
         this.lessonProgressRepository = lessonProgressRepository;
         this.userRepository = userRepository;
         this.topicRepository = topicRepository;
-        this.userTopicRepository = userTopicRepository;
-        this.answerAttemptRepository = answerAttemptRepository;
-        this.lessonCatalog = lessonCatalog;
+        this.topicMasteryUpdater = topicMasteryUpdater;
+        this.questionSelectionEngine = questionSelectionEngine;
     }
 
     @Override
@@ -88,7 +84,10 @@ public class LessonProgressServiceImpl implements LessonProgressService {
             throw new IllegalArgumentException("lessonId is required");
         }
         lessonProgressRepository.findByUserIdAndLessonId(userId, lessonId)
-            .ifPresent(lessonProgressRepository::delete);
+            .ifPresent(progress -> {
+                lessonProgressRepository.delete(progress);
+                updateMasteryFromLesson(userId, progress.getTopicSlug());
+            });
     }
 
     private LessonProgressResponse toResponse(LessonProgress progress) {
@@ -110,31 +109,10 @@ public class LessonProgressServiceImpl implements LessonProgressService {
             return;
         }
 
-        long totalAttempts = answerAttemptRepository.countByUserIdAndQuestionTopicId(userId, topic.getId());
-        long correctAttempts = answerAttemptRepository.countByUserIdAndQuestionTopicIdAndCorrectTrue(userId, topic.getId());
-        int practiceAccuracy = totalAttempts == 0 ? 0 : (int) Math.round((correctAttempts * 100.0) / totalAttempts);
-
-        int totalLessons = lessonCatalog.getTotalLessons(topicSlug);
-        long completedLessons = totalLessons == 0
-            ? 0
-            : lessonProgressRepository.countByUserIdAndTopicSlug(userId, topicSlug);
-        int lessonCompletion = totalLessons == 0
-            ? 0
-            : (int) Math.round((completedLessons * 100.0) / totalLessons);
-
-        int masteryPct = (int) Math.round(practiceAccuracy * 0.7 + lessonCompletion * 0.3);
-
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-        UserTopic userTopic = userTopicRepository.findByUserIdAndTopicId(userId, topic.getId())
-            .orElseGet(() -> UserTopic.builder()
-                .user(user)
-                .topic(topic)
-                .weak(false)
-                .masteryPct(0)
-                .build()
-            );
-        userTopic.setMasteryPct(masteryPct);
-        userTopicRepository.save(userTopic);
+        long completedLessons = lessonProgressRepository.countByUserIdAndTopicSlug(userId, topicSlug);
+        Integer mastery = topicMasteryUpdater.recordLessonProgress(userId, topic, completedLessons);
+        if (mastery != null) {
+            questionSelectionEngine.updateMastery(userId, topic.getId(), mastery);
+        }
     }
 }
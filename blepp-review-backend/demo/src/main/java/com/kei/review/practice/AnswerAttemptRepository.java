@@ -3,6 +3,8 @@ package com.kei.review.practice;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.time.Instant;
 
 public interface AnswerAttemptRepository extends JpaRepository<AnswerAttempt, UUID> {
@@ -15,4 +17,7 @@ public interface AnswerAttemptRepository extends JpaRepository<AnswerAttempt, UU
     List<AnswerAttempt> findByUserIdAndCreatedAtAfter(UUID userId, Instant after);
     long countByUserIdAndQuestionTopicId(UUID userId, UUID topicId);
     long countByUserIdAndQuestionTopicIdAndCorrectTrue(UUID userId, UUID topicId);
+
+    @Query("select a.question.id, max(a.createdAt) from AnswerAttempt a where a.user.id = :userId group by a.question.id")
+    List<Object[]> findLastAttemptAtByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,221 @@
+package com.kei.review.practice;
+
+import com.kei.review.analytics.AnalyticsDashboardCache;
+import com.kei.review.analytics.UserDailyActivityUpdater;
+import com.kei.review.topics.TopicMasteryUpdater;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class AttemptBatchWriter {
+    private static final String INSERT_ATTEMPT_SQL = """
+        INSERT INTO answer_attempts
+            (id, user_id, question_id, practice_session_id, selected_answer_index, correct, time_taken_seconds, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (id) DO NOTHING
+        """;
+
+    private static final String UPSERT_MISTAKE_SQL = """
+        INSERT INTO user_mistakes (id, user_id, question_id, selected_answer_index, last_wrong_at)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (user_id, question_id) DO UPDATE
+        SET selected_answer_index = EXCLUDED.selected_answer_index,
+            last_wrong_at = EXCLUDED.last_wrong_at
+        WHERE user_mistakes.last_wrong_at < EXCLUDED.last_wrong_at
+        """;
+
+    private static final String CLEAR_MISTAKE_SQL = """
+        DELETE FROM user_mistakes
+        WHERE user_id = ? AND question_id = ? AND last_wrong_at < ?
+        """;
+
+    private static final Comparator<TopicKey> TOPIC_KEY_ORDER = Comparator
+        .comparing(TopicKey::userId)
+        .thenComparing(TopicKey::topicId);
+
+    private static final Comparator<QuestionKey> QUESTION_KEY_ORDER = Comparator
+        .comparing(QuestionKey::userId)
+        .thenComparing(QuestionKey::questionId);
+
+    private static final Comparator<DayKey> DAY_KEY_ORDER = Comparator
+        .comparing(DayKey::userId)
+        .thenComparing(DayKey::date);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TopicMasteryUpdater topicMasteryUpdater;
+    private final MistakeCountCache mistakeCountCache;
+    private final QuestionSelectionEngine questionSelectionEngine;
+    private final QuestionReviewStateUpdater reviewStateUpdater;
+    private final UserDailyActivityUpdater userDailyActivityUpdater;
+    private final AnalyticsDashboardCache analyticsDashboardCache;
+
+    public AttemptBatchWriter(
+        JdbcTemplate jdbcTemplate,
+        TopicMasteryUpdater topicMasteryUpdater,
+        MistakeCountCache mistakeCountCache,
+        QuestionSelectionEngine questionSelectionEngine,
+        QuestionReviewStateUpdater reviewStateUpdater,
+        UserDailyActivityUpdater userDailyActivityUpdater,
+        AnalyticsDashboardCache analyticsDashboardCache
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.topicMasteryUpdater = topicMasteryUpdater;
+        this.mistakeCountCache = mistakeCountCache;
+        this.questionSelectionEngine = questionSelectionEngine;
+        this.reviewStateUpdater = reviewStateUpdater;
+        this.userDailyActivityUpdater = userDailyActivityUpdater;
+        this.analyticsDashboardCache = analyticsDashboardCache;
+    }
+
+    @Transactional
+    public void write(List<PendingAttempt> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ATTEMPT_SQL, attempts, attempts.size(), (ps, attempt) -> {
+            ps.setObject(1, attempt.id());
+            ps.setObject(2, attempt.userId());
+            ps.setObject(3, attempt.questionId());
+            ps.setObject(4, attempt.practiceSessionId());
+            ps.setObject(5, attempt.selectedAnswerIndex(), Types.INTEGER);
+            ps.setBoolean(6, attempt.correct());
+            ps.setObject(7, attempt.timeTakenSeconds(), Types.INTEGER);
+            ps.setTimestamp(8, Timestamp.from(attempt.createdAt()));
+        });
+
+        Map<TopicKey, int[]> byTopic = new TreeMap<>(TOPIC_KEY_ORDER);
+        for (PendingAttempt attempt : attempts) {
+            int[] counts = byTopic.computeIfAbsent(
+                new TopicKey(attempt.userId(), attempt.topicId(), attempt.topicSlug()),
+                key -> new int[2]
+            );
+            counts[0] += 1;
+            counts[1] += attempt.correct() ? 1 : 0;
+        }
+        List<QuestionSelectionEngine.TopicMastery> masteries = new ArrayList<>(byTopic.size());
+        for (Map.Entry<TopicKey, int[]> entry : byTopic.entrySet()) {
+            TopicKey key = entry.getKey();
+            Integer mastery = topicMasteryUpdater.recordAttempts(
+                key.userId(),
+                key.topicId(),
+                key.topicSlug(),
+                entry.getValue()[0],
+                entry.getValue()[1]
+            );
+            if (mastery != null) {
+                masteries.add(new QuestionSelectionEngine.TopicMastery(key.userId(), key.topicId(), mastery));
+            }
+        }
+
+        updateMistakes(attempts);
+        reviewStateUpdater.apply(attempts);
+        recordDailyActivity(attempts);
+        List<UUID> userIds = attempts.stream().map(PendingAttempt::userId).distinct().toList();
+        afterCommit(() -> {
+            invalidate(userIds);
+            questionSelectionEngine.record(attempts, masteries);
+        });
+    }
+
+    private void recordDailyActivity(List<PendingAttempt> attempts) {
+        Map<UUID, ZoneId> zones = userDailyActivityUpdater.timeZones(
+            attempts.stream().map(PendingAttempt::userId).distinct().toList()
+        );
+        Map<DayKey, long[]> byDay = new TreeMap<>(DAY_KEY_ORDER);
+        for (PendingAttempt attempt : attempts) {
+            ZoneId zone = zones.getOrDefault(attempt.userId(), ZoneOffset.UTC);
+            long[] totals = byDay.computeIfAbsent(
+                new DayKey(attempt.userId(), LocalDate.ofInstant(attempt.createdAt(), zone)),
+                key -> new long[3]
+            );
+            totals[0] += 1;
+            totals[1] += attempt.correct() ? 1 : 0;
+            totals[2] += attempt.timeTakenSeconds() != null && attempt.timeTakenSeconds() > 0 ? attempt.timeTakenSeconds() : 0;
+        }
+        List<UserDailyActivityUpdater.Delta> deltas = new ArrayList<>(byDay.size());
+        byDay.forEach((key, totals) -> deltas.add(new UserDailyActivityUpdater.Delta(
+            key.userId(),
+            key.date(),
+            (int) totals[0],
+            (int) totals[1],
+            totals[2]
+        )));
+        userDailyActivityUpdater.record(deltas);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void invalidate(List<UUID> userIds) {
+        mistakeCountCache.invalidate(userIds);
+        analyticsDashboardCache.invalidate(userIds);
+    }
+
+    private void updateMistakes(List<PendingAttempt> attempts) {
+        Map<QuestionKey, PendingAttempt> latest = new TreeMap<>(QUESTION_KEY_ORDER);
+        for (PendingAttempt attempt : attempts) {
+            latest.merge(
+                new QuestionKey(attempt.userId(), attempt.questionId()),
+                attempt,
+                (a, b) -> b.createdAt().isAfter(a.createdAt()) ? b : a
+            );
+        }
+
+        List<PendingAttempt> wrong = new ArrayList<>();
+        List<PendingAttempt> correct = new ArrayList<>();
+        for (PendingAttempt attempt : latest.values()) {
+            (attempt.correct() ? correct : wrong).add(attempt);
+        }
+
+        if (!wrong.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_MISTAKE_SQL, wrong, wrong.size(), (ps, attempt) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, attempt.userId());
+                ps.setObject(3, attempt.questionId());
+                ps.setObject(4, attempt.selectedAnswerIndex(), Types.INTEGER);
+                ps.setTimestamp(5, Timestamp.from(attempt.createdAt()));
+            });
+        }
+        if (!correct.isEmpty()) {
+            jdbcTemplate.batchUpdate(CLEAR_MISTAKE_SQL, correct, correct.size(), (ps, attempt) -> {
+                ps.setObject(1, attempt.userId());
+                ps.setObject(2, attempt.questionId());
+                ps.setTimestamp(3, Timestamp.from(attempt.createdAt()));
+            });
+        }
+    }
+
+    private record QuestionKey(UUID userId, UUID questionId) {
+    }
+
+    private record TopicKey(UUID userId, UUID topicId, String topicSlug) {
+    }
+
+    private record DayKey(UUID userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.kei.review.practice;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class AttemptIngestionQueue {
+    private static final Logger log = LoggerFactory.getLogger(AttemptIngestionQueue.class);
+
+    private final AttemptBatchWriter writer;
+    private final BlockingQueue<PendingAttempt> queue;
+    private final int workerCount;
+    private final int maxBatch;
+    private final int maxRetries;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public AttemptIngestionQueue(
+        AttemptBatchWriter writer,
+        @Value("${app.practice.ingest.capacity:10000}") int capacity,
+        @Value("${app.practice.ingest.workers:2}") int workerCount,
+        @Value("${app.practice.ingest.max-batch:500}") int maxBatch,
+        @Value("${app.practice.ingest.max-retries:3}") int maxRetries
+    ) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.workerCount = workerCount;
+        this.maxBatch = maxBatch;
+        this.maxRetries = maxRetries;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "attempt-ingest-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    public void submit(PendingAttempt attempt) {
+        if (!running || !queue.offer(attempt)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Attempt queue is full, retry shortly.");
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingAttempt> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatch) > 0) {
+            write(remaining);
+            remaining.clear();
+        }
+    }
+
+    private void work() {
+        List<PendingAttempt> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                PendingAttempt first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            write(batch);
+            batch.clear();
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<PendingAttempt> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writer.write(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries) {
+                    if (batch.size() > 1) {
+                        log.warn("Failed to write {} practice attempts, writing them one at a time", batch.size(), e);
+                        batch.forEach(single -> write(List.of(single)));
+                    } else {
+                        log.error("Dropping practice attempt {} after {} failed writes", batch.get(0).id(), attempt, e);
+                    }
+                    return;
+                }
+                log.warn("Failed to write {} practice attempts, retrying", batch.size(), e);
+                try {
+                    Thread.sleep(200L * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.kei.review.practice;
+
+import com.kei.review.cache.BoundedCache;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MistakeCountCache {
+    private final UserMistakeRepository userMistakeRepository;
+    private final BoundedCache<UUID, MistakeCounts> counts;
+
+    public MistakeCountCache(
+        UserMistakeRepository userMistakeRepository,
+        @Value("${app.practice.mistake-counts.max-users:10000}") int maxUsers,
+        @Value("${app.practice.mistake-counts.ttl-minutes:5}") long ttlMinutes
+    ) {
+        this.userMistakeRepository = userMistakeRepository;
+        this.counts = new BoundedCache<>(maxUsers, Duration.ofMinutes(ttlMinutes));
+    }
+
+    public long total(UUID userId) {
+        return load(userId).total();
+    }
+
+    public long forTopic(UUID userId, UUID topicId) {
+        return load(userId).byTopic().getOrDefault(topicId, 0L);
+    }
+
+    public void invalidate(Collection<UUID> userIds) {
+        userIds.forEach(counts::invalidate);
+    }
+
+    private MistakeCounts load(UUID userId) {
+        return counts.computeIfAbsent(userId, id -> {
+            Map<UUID, Long> byTopic = new HashMap<>();
+            long total = 0;
+            for (Object[] row : userMistakeRepository.countByTopicForUser(id)) {
+                long count = (Long) row[1];
+                byTopic.put((UUID) row[0], count);
+                total += count;
+            }
+            return new MistakeCounts(total, Map.copyOf(byTopic));
+        });
+    }
+
+    private record MistakeCounts(long total, Map<UUID, Long> byTopic) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.kei.review.practice;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PendingAttempt(
+    UUID id,
+    UUID userId,
+    UUID questionId,
+    UUID practiceSessionId,
+    UUID topicId,
+    String topicSlug,
+    Integer selectedAnswerIndex,
+    boolean correct,
+    Integer timeTakenSeconds,
+    Instant createdAt
+) {
+}
@@ -1,16 +1,20 @@
 package com.kei.review.practice;
 
 import com.kei.review.auth.UserPrincipal;
+import com.kei.review.practice.dto.AnswerAttemptBatchResponse;
 import com.kei.review.practice.dto.AnswerAttemptRequest;
 import com.kei.review.practice.dto.CreatePracticeSessionRequest;
 import com.kei.review.practice.dto.MistakeQuestionResponse;
+import com.kei.review.practice.dto.PracticeSessionCursorResponse;
 import com.kei.review.practice.dto.PracticeSessionResponse;
+import com.kei.review.practice.dto.ReviewQueueResponse;
 import com.kei.review.questions.dto.QuestionResponse;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,6 +38,22 @@ public class PracticeController {
         return ResponseEntity.ok(practiceService.startSession(principal.getId(), request));
     }
 
+    @GetMapping("/session/{sessionId}/questions")
+    public ResponseEntity<List<QuestionResponse>> sessionQuestions(
+        @PathVariable UUID sessionId,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(practiceService.selectSessionQuestions(principal.getId(), sessionId));
+    }
+
+    @GetMapping("/session/{sessionId}/next")
+    public ResponseEntity<PracticeSessionCursorResponse> nextQuestion(
+        @PathVariable UUID sessionId,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(practiceService.nextQuestion(principal.getId(), sessionId));
+    }
+
     @PostMapping("/attempt")
     public ResponseEntity<Void> recordAttempt(
         @RequestBody AnswerAttemptRequest request,
@@ -43,6 +63,23 @@ public class PracticeController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/session/{sessionId}/attempts")
+    public ResponseEntity<AnswerAttemptBatchResponse> recordAttempts(
+        @PathVariable UUID sessionId,
+        @RequestBody List<AnswerAttemptRequest> requests,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(practiceService.recordAttempts(principal.getId(), sessionId, requests));
+    }
+
+    @GetMapping("/review/due")
+    public ResponseEntity<ReviewQueueResponse> dueReviews(
+        @RequestParam(defaultValue = "50") int limit,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(practiceService.dueReviews(principal.getId(), limit));
+    }
+
     @GetMapping("/mistakes")
     public ResponseEntity<List<UUID>> listMistakes(@AuthenticationPrincipal UserPrincipal principal) {
         return ResponseEntity.ok(practiceService.listMistakeQuestionIds(principal.getId()));
@@ -1,16 +1,23 @@
 package com.kei.review.practice;
 
+import com.kei.review.practice.dto.AnswerAttemptBatchResponse;
 import com.kei.review.practice.dto.AnswerAttemptRequest;
 import com.kei.review.practice.dto.CreatePracticeSessionRequest;
+import com.kei.review.practice.dto.PracticeSessionCursorResponse;
 import com.kei.review.practice.dto.PracticeSessionResponse;
 import com.kei.review.practice.dto.MistakeQuestionResponse;
+import com.kei.review.practice.dto.ReviewQueueResponse;
 import com.kei.review.questions.dto.QuestionResponse;
 import java.util.List;
 import java.util.UUID;
 
 public interface PracticeService {
     PracticeSessionResponse startSession(UUID userId, CreatePracticeSessionRequest request);
+    List<QuestionResponse> selectSessionQuestions(UUID userId, UUID sessionId);
+    PracticeSessionCursorResponse nextQuestion(UUID userId, UUID sessionId);
     void recordAttempt(UUID userId, AnswerAttemptRequest request);
+    AnswerAttemptBatchResponse recordAttempts(UUID userId, UUID sessionId, List<AnswerAttemptRequest> requests);
+    ReviewQueueResponse dueReviews(UUID userId, int limit);
     List<UUID> listMistakeQuestionIds(UUID userId);
     List<MistakeQuestionResponse> listMistakeQuestions(UUID userId);
     List<QuestionResponse> listMistakeQuestionsByTopic(UUID userId, UUID topicId);
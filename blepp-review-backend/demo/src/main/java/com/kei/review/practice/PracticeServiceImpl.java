@@ -1,57 +1,78 @@
 package com.kei.review.practice;
 
-import com.kei.review.lessons.LessonCatalog;
-import com.kei.review.lessons.LessonProgressRepository;
+import com.kei.review.practice.dto.AnswerAttemptBatchResponse;
 import com.kei.review.practice.dto.AnswerAttemptRequest;
 import com.kei.review.practice.dto.CreatePracticeSessionRequest;
+import com.kei.review.practice.dto.PracticeSessionCursorResponse;
 import com.kei.review.practice.dto.PracticeSessionResponse;
+import com.kei.review.practice.dto.ReviewQueueResponse;
 import com.kei.review.practice.dto.MistakeQuestionResponse;
 import com.kei.review.questions.dto.QuestionResponse;
 import com.kei.review.questions.Question;
-import com.kei.review.questions.QuestionRepository;
+import com.kei.review.questions.QuestionAnswerKey;
+import com.kei.review.questions.QuestionAnswerKeyCache;
 import com.kei.review.topics.Topic;
 import com.kei.review.topics.TopicRepository;
-import com.kei.review.topics.UserTopic;
-import com.kei.review.topics.UserTopicRepository;
 import com.kei.review.users.User;
 import com.kei.review.users.UserRepository;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class PracticeServiceImpl implements PracticeService {
+    private static final String MISTAKE_REVIEW_SLUG = "mistake-review";
+    private static final int DEFAULT_SESSION_QUESTIONS = 10;
+    private static final int MAX_SESSION_QUESTIONS = 200;
+    private static final int MAX_ATTEMPT_BATCH_SIZE = 200;
+
     private final PracticeSessionRepository practiceSessionRepository;
-    private final AnswerAttemptRepository answerAttemptRepository;
+    private final UserMistakeRepository userMistakeRepository;
+    private final PracticeSessionStateCache practiceSessionStateCache;
+    private final MistakeCountCache mistakeCountCache;
+    private final QuestionSelectionEngine questionSelectionEngine;
+    private final QuestionReviewStateRepository questionReviewStateRepository;
     private final TopicRepository topicRepository;
-    private final UserTopicRepository userTopicRepository;
+    private final AttemptIngestionQueue attemptIngestionQueue;
+    private final AttemptBatchWriter attemptBatchWriter;
     private final UserRepository userRepository;
-    private final QuestionRepository questionRepository;
-    private final LessonProgressRepository lessonProgressRepository;
-    private final LessonCatalog lessonCatalog;
+    private final QuestionAnswerKeyCache questionAnswerKeyCache;
 
     public PracticeServiceImpl(
         PracticeSessionRepository practiceSessionRepository,
-        AnswerAttemptRepository answerAttemptRepository,
+        UserMistakeRepository userMistakeRepository,
+        PracticeSessionStateCache practiceSessionStateCache,
+        MistakeCountCache mistakeCountCache,
+        QuestionSelectionEngine questionSelectionEngine,
+        QuestionReviewStateRepository questionReviewStateRepository,
         TopicRepository topicRepository,
-        UserTopicRepository userTopicRepository,
+        AttemptIngestionQueue attemptIngestionQueue,
+        AttemptBatchWriter attemptBatchWriter,
         UserRepository userRepository,
-        QuestionRepository questionRepository,
-        LessonProgressRepository lessonProgressRepository,
-        LessonCatalog lessonCatalog
+        QuestionAnswerKeyCache questionAnswerKeyCache
     ) {
         this.practiceSessionRepository = practiceSessionRepository;
-        this.answerAttemptRepository = answerAttemptRepository;
+        this.userMistakeRepository = userMistakeRepository;
+        this.practiceSessionStateCache = practiceSessionStateCache;
+        this.mistakeCountCache = mistakeCountCache;
+        this.questionSelectionEngine = questionSelectionEngine;
+        this.questionReviewStateRepository = questionReviewStateRepository;
         this.topicRepository = topicRepository;
-        this.userTopicRepository = userTopicRepository;
+        this.attemptIngestionQueue = attemptIngestionQueue;
+        this.attemptBatchWriter = attemptBatchWriter;
         this.userRepository = userRepository;
-        this.questionRepository = questionRepository;
-        this.lessonProgressRepository = lessonProgressRepository;
-        this.lessonCatalog = lessonCatalog;
+        this.questionAnswerKeyCache = questionAnswerKeyCache;
     }
 
     @Override
@@ -80,117 +101,168 @@ public class PracticeServiceImpl implements PracticeService {
     }
 
     @Override
-    public void recordAttempt(UUID userId, AnswerAttemptRequest request) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-        Question question = questionRepository.findById(request.questionId())
-            .orElseThrow(() -> new IllegalStateException("Question not found"));
-        PracticeSession session = practiceSessionRepository.findById(request.sessionId())
-            .orElseThrow(() -> new IllegalStateException("Practice session not found"));
+    public List<QuestionResponse> selectSessionQuestions(UUID userId, UUID sessionId) {
+        return practiceSessionStateCache.questions(assignedState(userId, sessionId).items());
+    }
 
-        if (!session.getUser().getId().equals(userId)) {
-            throw new IllegalStateException("Practice session not found");
-        }
+    @Override
+    public PracticeSessionCursorResponse nextQuestion(UUID userId, UUID sessionId) {
+        PracticeSessionState state = assignedState(userId, sessionId);
+        PracticeSessionState.Item current = state.current();
+        List<QuestionResponse> questions = current != null
+            ? practiceSessionStateCache.questions(List.of(current))
+            : List.of();
+        return new PracticeSessionCursorResponse(
+            sessionId,
+            state.cursor().get(),
+            state.items().size(),
+            questions.isEmpty() ? null : questions.getFirst()
+        );
+    }
 
-        if (!question.getOwner().getId().equals(userId)) {
+    @Override
+    public void recordAttempt(UUID userId, AnswerAttemptRequest request) {
+        PracticeSessionState state = practiceSessionStateCache.get(userId, request.sessionId());
+        PracticeSessionState.Item item = state.item(request.questionId());
+        if (state.assigned() && item == null) {
+            throw new IllegalStateException("Question not in practice session");
+        }
+        QuestionAnswerKey answerKey = questionAnswerKeyCache.get(userId, request.questionId());
+        if (answerKey == null) {
             throw new IllegalStateException("Question not found");
         }
+        attemptIngestionQueue.submit(toPendingAttempt(
+            userId,
+            request.sessionId(),
+            answerKey,
+            request,
+            Instant.now()
+        ));
+        if (item != null) {
+            practiceSessionStateCache.advance(state, item.orderIndex());
+        }
+    }
 
-        boolean correct = request.selectedAnswerIndex() != null
-            && request.selectedAnswerIndex().equals(question.getCorrectAnswerIndex());
+    @Override
+    public AnswerAttemptBatchResponse recordAttempts(
+        UUID userId,
+        UUID sessionId,
+        List<AnswerAttemptRequest> requests
+    ) {
+        if (requests.size() > MAX_ATTEMPT_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_ATTEMPT_BATCH_SIZE + " attempts can be submitted per batch.");
+        }
+        PracticeSessionState state = practiceSessionStateCache.get(userId, sessionId);
+        Map<UUID, QuestionAnswerKey> answerKeys = loadAnswerKeys(userId, requests);
 
-        AnswerAttempt attempt = AnswerAttempt.builder()
-            .user(user)
-            .question(question)
-            .practiceSession(session)
-            .selectedAnswerIndex(request.selectedAnswerIndex())
-            .correct(correct)
-            .timeTakenSeconds(request.timeTakenSeconds())
-            .createdAt(Instant.now())
-            .build();
+        Instant now = Instant.now();
+        List<PendingAttempt> attempts = new ArrayList<>(requests.size());
+        List<AnswerAttemptBatchResponse.Item> items = new ArrayList<>(requests.size());
+        int correctCount = 0;
+        int lastOrderIndex = -1;
+        for (int i = 0; i < requests.size(); i++) {
+            AnswerAttemptRequest request = requests.get(i);
+            Instant createdAt = now.plusNanos(i * 1000L);
+            PracticeSessionState.Item item = state.item(request.questionId());
+            if (state.assigned() && item == null) {
+                items.add(new AnswerAttemptBatchResponse.Item(
+                    i,
+                    request.questionId(),
+                    null,
+                    AnswerAttemptBatchResponse.Status.QUESTION_NOT_IN_SESSION
+                ));
+                continue;
+            }
+            QuestionAnswerKey answerKey = request.questionId() != null ? answerKeys.get(request.questionId()) : null;
+            if (answerKey == null) {
+                items.add(new AnswerAttemptBatchResponse.Item(
+                    i,
+                    request.questionId(),
+                    null,
+                    AnswerAttemptBatchResponse.Status.QUESTION_NOT_FOUND
+                ));
+                continue;
+            }
+            PendingAttempt attempt = toPendingAttempt(userId, sessionId, answerKey, request, createdAt);
+            if (item != null) {
+                lastOrderIndex = Math.max(lastOrderIndex, item.orderIndex());
+            }
+
+            correctCount += attempt.correct() ? 1 : 0;
+            attempts.add(attempt);
+            items.add(new AnswerAttemptBatchResponse.Item(
+                i,
+                attempt.questionId(),
+                attempt.correct(),
+                AnswerAttemptBatchResponse.Status.RECORDED
+            ));
+        }
 
-        answerAttemptRepository.save(attempt);
-
-        Topic topic = question.getTopic();
-        UserTopic userTopic = userTopicRepository.findByUserIdAndTopicId(userId, topic.getId())
-            .orElseGet(() -> UserTopic.builder()
-                .user(user)
-                .topic(topic)
-                .weak(false)
-                .masteryPct(0)
-                .build()
-            );
-
-        long totalAttempts = answerAttemptRepository.countByUserIdAndQuestionTopicId(userId, topic.getId());
-        long correctAttempts = answerAttemptRepository.countByUserIdAndQuestionTopicIdAndCorrectTrue(userId, topic.getId());
-        int practiceAccuracy = totalAttempts == 0 ? 0 : (int) Math.round((correctAttempts * 100.0) / totalAttempts);
-        int totalLessons = lessonCatalog.getTotalLessons(topic.getSlug());
-        long completedLessons = totalLessons == 0
-            ? 0
-            : lessonProgressRepository.countByUserIdAndTopicSlug(userId, topic.getSlug());
-        int lessonCompletion = totalLessons == 0
-            ? 0
-            : (int) Math.round((completedLessons * 100.0) / totalLessons);
-        int masteryPct = (int) Math.round(practiceAccuracy * 0.7 + lessonCompletion * 0.3);
-        userTopic.setMasteryPct(masteryPct);
-        userTopicRepository.save(userTopic);
+        attemptBatchWriter.write(attempts);
+        if (lastOrderIndex >= 0) {
+            practiceSessionStateCache.advance(state, lastOrderIndex);
+        }
+        return new AnswerAttemptBatchResponse(attempts.size(), correctCount, requests.size() - attempts.size(), items);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewQueueResponse dueReviews(UUID userId, int limit) {
+        Instant now = Instant.now();
+        int pageSize = Math.max(1, Math.min(limit, MAX_SESSION_QUESTIONS));
+        List<UUID> dueIds = questionReviewStateRepository.findDueIds(userId, now, PageRequest.of(0, pageSize));
+        List<ReviewQueueResponse.Item> items = dueIds.isEmpty()
+            ? List.of()
+            : questionReviewStateRepository.findWithQuestionByIdIn(dueIds).stream()
+                .sorted(Comparator.comparing(QuestionReviewState::getDueAt))
+                .map(state -> new ReviewQueueResponse.Item(
+                    toQuestionResponse(state.getQuestion()),
+                    state.getDueAt(),
+                    state.getIntervalDays(),
+                    state.getRepetitions(),
+                    state.getLapses()
+                ))
+                .toList();
+        long dueCount = dueIds.size() < pageSize
+            ? dueIds.size()
+            : questionReviewStateRepository.countByUserIdAndDueAtLessThanEqual(userId, now);
+        return new ReviewQueueResponse(dueCount, items);
     }
 
     @Override
     public List<UUID> listMistakeQuestionIds(UUID userId) {
-        return answerAttemptRepository.findByUserIdAndCorrectFalse(userId)
-            .stream()
-            .map(attempt -> attempt.getQuestion().getId())
-            .distinct()
-            .toList();
+        return userMistakeRepository.findQuestionIdsByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MistakeQuestionResponse> listMistakeQuestions(UUID userId) {
-        List<AnswerAttempt> attempts =
-            answerAttemptRepository.findByUserIdAndCorrectFalseOrderByCreatedAtDesc(userId);
-        Map<UUID, MistakeQuestionResponse> latestByQuestion = new LinkedHashMap<>();
-        for (AnswerAttempt attempt : attempts) {
-            UUID questionId = attempt.getQuestion().getId();
-            if (latestByQuestion.containsKey(questionId)) {
-                continue;
-            }
-            Question question = attempt.getQuestion();
-            String userAnswer = attempt.getSelectedAnswerIndex() != null &&
-                attempt.getSelectedAnswerIndex() >= 0 &&
-                attempt.getSelectedAnswerIndex() < question.getChoices().size()
-                ? question.getChoices().get(attempt.getSelectedAnswerIndex())
-                : null;
-            String correctAnswer = question.getChoices().get(question.getCorrectAnswerIndex());
-            latestByQuestion.put(
-                questionId,
-                new MistakeQuestionResponse(
-                    questionId,
+        return userMistakeRepository.findByUserIdOrderByLastWrongAtDesc(userId).stream()
+            .map(mistake -> {
+                Question question = mistake.getQuestion();
+                Integer selected = mistake.getSelectedAnswerIndex();
+                String userAnswer = selected != null && selected >= 0 && selected < question.getChoices().size()
+                    ? question.getChoices().get(selected)
+                    : null;
+                String correctAnswer = question.getChoices().get(question.getCorrectAnswerIndex());
+                return new MistakeQuestionResponse(
+                    question.getId(),
                     question.getTopic().getId(),
                     question.getTopic().getName(),
                     question.getText(),
                     userAnswer,
                     correctAnswer,
-                    attempt.getCreatedAt()
-                )
-            );
-        }
-        return List.copyOf(latestByQuestion.values());
+                    mistake.getLastWrongAt()
+                );
+            })
+            .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<QuestionResponse> listMistakeQuestionsByTopic(UUID userId, UUID topicId) {
-        List<AnswerAttempt> attempts =
-            answerAttemptRepository.findByUserIdAndCorrectFalseAndQuestionTopicIdOrderByCreatedAtDesc(userId, topicId);
-        Map<UUID, Question> byQuestion = new LinkedHashMap<>();
-        for (AnswerAttempt attempt : attempts) {
-            Question question = attempt.getQuestion();
-            byQuestion.putIfAbsent(question.getId(), question);
-        }
-        return byQuestion.values().stream()
-            .map(this::toQuestionResponse)
+        return userMistakeRepository.findByUserIdAndQuestionTopicIdOrderByLastWrongAtDesc(userId, topicId).stream()
+            .map(mistake -> toQuestionResponse(mistake.getQuestion()))
             .toList();
     }
 
@@ -201,19 +273,14 @@ public class PracticeServiceImpl implements PracticeService {
         Topic topic = topicRepository.findById(topicId)
             .orElseThrow(() -> new IllegalStateException("Topic not found"));
 
-        int questionCount = answerAttemptRepository
-            .findByUserIdAndCorrectFalseAndQuestionTopicIdOrderByCreatedAtDesc(userId, topicId)
-            .stream()
-            .map(attempt -> attempt.getQuestion().getId())
-            .distinct()
-            .toList()
-            .size();
+        int questionCount = (int) mistakeCountCache.forTopic(userId, topicId);
 
         PracticeSession session = PracticeSession.builder()
             .user(user)
             .topic(topic)
             .difficulty(null)
             .questionCount(questionCount)
+            .mistakesOnly(true)
             .createdAt(Instant.now())
             .build();
 
@@ -230,15 +297,8 @@ public class PracticeServiceImpl implements PracticeService {
     @Override
     @Transactional(readOnly = true)
     public List<QuestionResponse> listMistakeQuestionsAll(UUID userId) {
-        List<AnswerAttempt> attempts =
-            answerAttemptRepository.findByUserIdAndCorrectFalseOrderByCreatedAtDesc(userId);
-        Map<UUID, Question> byQuestion = new LinkedHashMap<>();
-        for (AnswerAttempt attempt : attempts) {
-            Question question = attempt.getQuestion();
-            byQuestion.putIfAbsent(question.getId(), question);
-        }
-        return byQuestion.values().stream()
-            .map(this::toQuestionResponse)
+        return userMistakeRepository.findByUserIdOrderByLastWrongAtDesc(userId).stream()
+            .map(mistake -> toQuestionResponse(mistake.getQuestion()))
             .toList();
     }
 
@@ -246,28 +306,23 @@ public class PracticeServiceImpl implements PracticeService {
     public PracticeSessionResponse startMistakeSessionAll(UUID userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalStateException("User not found"));
-        Topic topic = topicRepository.findBySlug("mistake-review")
+        Topic topic = topicRepository.findBySlug(MISTAKE_REVIEW_SLUG)
             .orElseGet(() -> topicRepository.save(
                 Topic.builder()
                     .name("Mistake Review")
-                    .slug("mistake-review")
+                    .slug(MISTAKE_REVIEW_SLUG)
                     .color("gray")
                     .build()
             ));
 
-        int questionCount = answerAttemptRepository
-            .findByUserIdAndCorrectFalseOrderByCreatedAtDesc(userId)
-            .stream()
-            .map(attempt -> attempt.getQuestion().getId())
-            .distinct()
-            .toList()
-            .size();
+        int questionCount = (int) mistakeCountCache.total(userId);
 
         PracticeSession session = PracticeSession.builder()
             .user(user)
             .topic(topic)
             .difficulty(null)
             .questionCount(questionCount)
+            .mistakesOnly(true)
             .createdAt(Instant.now())
             .build();
 
@@ -281,6 +336,64 @@ public class PracticeServiceImpl implements PracticeService {
         );
     }
 
+    private PracticeSessionState assignedState(UUID userId, UUID sessionId) {
+        PracticeSessionState state = practiceSessionStateCache.get(userId, sessionId);
+        if (state.assigned()) {
+            return state;
+        }
+
+        PracticeSession session = practiceSessionRepository.findWithTopicById(sessionId)
+            .orElseThrow(() -> new IllegalStateException("Practice session not found"));
+        Topic topic = session.getTopic();
+        boolean mistakeReview = MISTAKE_REVIEW_SLUG.equals(topic.getSlug());
+        boolean mistakesOnly = mistakeReview || session.isMistakesOnly();
+        int count = session.getQuestionCount() != null && session.getQuestionCount() > 0
+            ? Math.min(session.getQuestionCount(), MAX_SESSION_QUESTIONS)
+            : DEFAULT_SESSION_QUESTIONS;
+        List<UUID> questionIds = questionSelectionEngine.select(
+            userId,
+            mistakeReview ? null : topic.getId(),
+            session.getDifficulty(),
+            count,
+            mistakesOnly
+        );
+        if (questionIds.isEmpty()) {
+            return state;
+        }
+        return practiceSessionStateCache.assign(state, questionIds);
+    }
+
+    private Map<UUID, QuestionAnswerKey> loadAnswerKeys(UUID userId, List<AnswerAttemptRequest> requests) {
+        Set<UUID> questionIds = requests.stream()
+            .map(AnswerAttemptRequest::questionId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        return questionIds.isEmpty()
+            ? Map.of()
+            : questionAnswerKeyCache.get(userId, questionIds);
+    }
+
+    private PendingAttempt toPendingAttempt(
+        UUID userId,
+        UUID sessionId,
+        QuestionAnswerKey answerKey,
+        AnswerAttemptRequest request,
+        Instant createdAt
+    ) {
+        return new PendingAttempt(
+            UUID.randomUUID(),
+            userId,
+            answerKey.questionId(),
+            sessionId,
+            answerKey.topicId(),
+            answerKey.topicSlug(),
+            request.selectedAnswerIndex(),
+            answerKey.isCorrect(request.selectedAnswerIndex()),
+            request.timeTakenSeconds(),
+            createdAt
+        );
+    }
+
     private QuestionResponse toQuestionResponse(Question question) {
         return new QuestionResponse(
             question.getId(),
@@ -294,7 +407,8 @@ public class PracticeServiceImpl implements PracticeService {
             question.getSource(),
             question.getTags(),
             question.getCategory(),
-            question.getCreatedAt()
+            question.getCreatedAt(),
+            null
         );
     }
 }
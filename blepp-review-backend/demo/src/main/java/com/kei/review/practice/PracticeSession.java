@@ -3,6 +3,7 @@ package com.kei.review.practice;
 import com.kei.review.questions.QuestionDifficulty;
 import com.kei.review.topics.Topic;
 import com.kei.review.users.User;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -46,5 +47,11 @@ public class PracticeSession {
 
     private Integer questionCount;
 
+    @Column(nullable = false)
+    private boolean mistakesOnly;
+
+    @Column(insertable = false, updatable = false)
+    private Integer cursorPosition;
+
     private Instant createdAt;
 }
@@ -0,0 +1,17 @@
+package com.kei.review.practice;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PracticeSessionQuestionRepository extends JpaRepository<PracticeSessionQuestion, UUID> {
+    @Query("""
+        select psq.orderIndex, psq.question.id
+        from PracticeSessionQuestion psq
+        where psq.practiceSession.id = :practiceSessionId
+        order by psq.orderIndex
+        """)
+    List<Object[]> findQuestionIdsByPracticeSessionId(@Param("practiceSessionId") UUID practiceSessionId);
+}
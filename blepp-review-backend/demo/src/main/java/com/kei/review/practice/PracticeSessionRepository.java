@@ -1,7 +1,13 @@
 package com.kei.review.practice;
 
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PracticeSessionRepository extends JpaRepository<PracticeSession, UUID> {
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    @EntityGraph(attributePaths = {"topic"})
+    Optional<PracticeSession> findWithTopicById(UUID id);
 }
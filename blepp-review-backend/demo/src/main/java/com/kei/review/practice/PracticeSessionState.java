@@ -0,0 +1,55 @@
+package com.kei.review.practice;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public record PracticeSessionState(
+    UUID sessionId,
+    UUID userId,
+    List<Item> items,
+    Map<UUID, Item> itemsByQuestionId,
+    AtomicInteger cursor
+) {
+    public static PracticeSessionState of(UUID sessionId, UUID userId, List<Item> items, int cursor) {
+        Map<UUID, Item> byQuestion = new HashMap<>();
+        for (Item item : items) {
+            byQuestion.put(item.questionId(), item);
+        }
+        return new PracticeSessionState(
+            sessionId,
+            userId,
+            List.copyOf(items),
+            Map.copyOf(byQuestion),
+            new AtomicInteger(Math.min(Math.max(cursor, 0), items.size()))
+        );
+    }
+
+    public boolean assigned() {
+        return !items.isEmpty();
+    }
+
+    public Item item(UUID questionId) {
+        return questionId == null ? null : itemsByQuestionId.get(questionId);
+    }
+
+    public Item current() {
+        int position = cursor.get();
+        return position < items.size() ? items.get(position) : null;
+    }
+
+    public List<UUID> questionIds() {
+        return items.stream().map(Item::questionId).toList();
+    }
+
+    boolean advancePast(int orderIndex) {
+        int next = Math.min(orderIndex + 1, items.size());
+        int previous = cursor.getAndAccumulate(next, Math::max);
+        return next > previous;
+    }
+
+    public record Item(int orderIndex, UUID questionId) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.kei.review.practice;
+
+import com.kei.review.cache.BoundedCache;
+import com.kei.review.questions.Question;
+import com.kei.review.questions.QuestionAnswerKeyCache;
+import com.kei.review.questions.QuestionRepository;
+import com.kei.review.questions.dto.QuestionResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class PracticeSessionStateCache {
+    private static final Logger log = LoggerFactory.getLogger(PracticeSessionStateCache.class);
+
+    private static final String INSERT_QUESTION_SQL = """
+        INSERT INTO practice_session_questions (id, practice_session_id, question_id, order_index)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (practice_session_id, order_index) DO NOTHING
+        """;
+
+    private static final String UPDATE_CURSOR_SQL = """
+        UPDATE practice_sessions SET cursor_position = GREATEST(cursor_position, ?) WHERE id = ?
+        """;
+
+    private final PracticeSessionRepository practiceSessionRepository;
+    private final PracticeSessionQuestionRepository practiceSessionQuestionRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionAnswerKeyCache questionAnswerKeyCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final BoundedCache<UUID, PracticeSessionState> states;
+    private final Map<UUID, PracticeSessionState> dirty = new ConcurrentHashMap<>();
+
+    public PracticeSessionStateCache(
+        PracticeSessionRepository practiceSessionRepository,
+        PracticeSessionQuestionRepository practiceSessionQuestionRepository,
+        QuestionRepository questionRepository,
+        QuestionAnswerKeyCache questionAnswerKeyCache,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.practice.session-state.max-sessions:10000}") int maxSessions,
+        @Value("${app.practice.session-state.ttl-minutes:120}") long ttlMinutes
+    ) {
+        this.practiceSessionRepository = practiceSessionRepository;
+        this.practiceSessionQuestionRepository = practiceSessionQuestionRepository;
+        this.questionRepository = questionRepository;
+        this.questionAnswerKeyCache = questionAnswerKeyCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.states = new BoundedCache<>(maxSessions, ttl);
+    }
+
+    public PracticeSessionState get(UUID userId, UUID sessionId) {
+        PracticeSessionState state = states.get(sessionId);
+        if (state == null) {
+            state = load(sessionId);
+        }
+        if (state == null || !state.userId().equals(userId)) {
+            throw new IllegalStateException("Practice session not found");
+        }
+        return state;
+    }
+
+    public PracticeSessionState assign(PracticeSessionState state, List<UUID> questionIds) {
+        Set<UUID> existing = questionAnswerKeyCache.get(state.userId(), questionIds).keySet();
+        List<UUID> ordered = questionIds.stream()
+            .filter(existing::contains)
+            .toList();
+        PracticeSessionState assigned = transactionTemplate.execute(status -> {
+            List<Object[]> rows = new ArrayList<>(ordered.size());
+            List<PracticeSessionState.Item> items = new ArrayList<>(ordered.size());
+            for (UUID questionId : ordered) {
+                rows.add(new Object[] {UUID.randomUUID(), state.sessionId(), questionId, items.size()});
+                items.add(new PracticeSessionState.Item(items.size(), questionId));
+            }
+            int[] inserted = jdbcTemplate.batchUpdate(INSERT_QUESTION_SQL, rows);
+            for (int count : inserted) {
+                if (count == 0) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+            }
+            return PracticeSessionState.of(state.sessionId(), state.userId(), items, 0);
+        });
+        if (assigned == null) {
+            states.invalidate(state.sessionId());
+            return get(state.userId(), state.sessionId());
+        }
+        states.put(state.sessionId(), assigned);
+        return assigned;
+    }
+
+    public List<QuestionResponse> questions(List<PracticeSessionState.Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> questionIds = items.stream().map(PracticeSessionState.Item::questionId).toList();
+        return transactionTemplate.execute(status -> {
+            Map<UUID, Question> byId = questionRepository.findWithChoicesByIdIn(questionIds).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+            return questionIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toQuestionResponse)
+                .toList();
+        });
+    }
+
+    public void advance(PracticeSessionState state, int orderIndex) {
+        if (state.advancePast(orderIndex)) {
+            dirty.put(state.sessionId(), state);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.practice.session-state.flush-interval-ms:5000}")
+    public void flushCursors() {
+        List<PracticeSessionState> flushing = new ArrayList<>();
+        for (Map.Entry<UUID, PracticeSessionState> entry : dirty.entrySet()) {
+            if (dirty.remove(entry.getKey(), entry.getValue())) {
+                flushing.add(entry.getValue());
+            }
+        }
+        if (!flushing.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_CURSOR_SQL, flushing, flushing.size(), (ps, state) -> {
+                    ps.setInt(1, state.cursor().get());
+                    ps.setObject(2, state.sessionId());
+                });
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist cursors for {} practice sessions", flushing.size(), e);
+                for (PracticeSessionState state : flushing) {
+                    dirty.putIfAbsent(state.sessionId(), state);
+                }
+            }
+        }
+        states.evictExpired();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushCursors();
+    }
+
+    private PracticeSessionState load(UUID sessionId) {
+        PracticeSessionState pending = dirty.get(sessionId);
+        if (pending != null) {
+            return states.putIfAbsent(sessionId, pending, Instant.now().plus(ttl));
+        }
+        PracticeSessionState loaded = transactionTemplate.execute(status -> {
+            PracticeSession session = practiceSessionRepository.findById(sessionId).orElse(null);
+            if (session == null) {
+                return null;
+            }
+            List<PracticeSessionState.Item> items = practiceSessionQuestionRepository
+                .findQuestionIdsByPracticeSessionId(sessionId)
+                .stream()
+                .map(row -> new PracticeSessionState.Item((Integer) row[0], (UUID) row[1]))
+                .toList();
+            int cursor = session.getCursorPosition() != null ? session.getCursorPosition() : 0;
+            return PracticeSessionState.of(sessionId, session.getUser().getId(), items, cursor);
+        });
+        if (loaded == null) {
+            return null;
+        }
+        return states.putIfAbsent(sessionId, loaded, Instant.now().plus(ttl));
+    }
+
+    private QuestionResponse toQuestionResponse(Question question) {
+        return new QuestionResponse(
+            question.getId(),
+            question.getTopic().getId(),
+            question.getTopic().getName(),
+            question.getText(),
+            List.copyOf(question.getChoices()),
+            question.getCorrectAnswerIndex(),
+            question.getExplanation(),
+            question.getDifficulty(),
+            question.getSource(),
+            question.getTags() != null ? List.copyOf(question.getTags()) : List.of(),
+            question.getCategory(),
+            question.getCreatedAt(),
+            null
+        );
+    }
+}
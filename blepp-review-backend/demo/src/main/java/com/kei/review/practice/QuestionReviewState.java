@@ -0,0 +1,62 @@
+package com.kei.review.practice;
+
+import com.kei.review.questions.Question;
+import com.kei.review.users.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "question_review_states",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "question_id"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionReviewState {
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "question_id", nullable = false)
+    private Question question;
+
+    @Column(nullable = false)
+    private double easeFactor;
+
+    @Column(nullable = false)
+    private int intervalDays;
+
+    @Column(nullable = false)
+    private int repetitions;
+
+    @Column(nullable = false)
+    private int lapses;
+
+    @Column(nullable = false)
+    private Instant dueAt;
+
+    @Column(nullable = false)
+    private Instant lastReviewedAt;
+}
@@ -0,0 +1,26 @@
+package com.kei.review.practice;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestionReviewStateRepository extends JpaRepository<QuestionReviewState, UUID> {
+    @Query("""
+        select s.id
+        from QuestionReviewState s
+        where s.user.id = :userId and s.dueAt <= :dueAt
+        order by s.dueAt asc
+        """)
+    List<UUID> findDueIds(@Param("userId") UUID userId, @Param("dueAt") Instant dueAt, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"question", "question.topic", "question.choices"})
+    List<QuestionReviewState> findWithQuestionByIdIn(Collection<UUID> ids);
+
+    long countByUserIdAndDueAtLessThanEqual(UUID userId, Instant dueAt);
+}
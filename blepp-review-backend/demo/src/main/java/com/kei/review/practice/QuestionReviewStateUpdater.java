@@ -0,0 +1,112 @@
+package com.kei.review.practice;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QuestionReviewStateUpdater {
+    private static final String LOCK_USER_SQL = """
+        SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0))
+        """;
+
+    private static final String SELECT_STATES_SQL = """
+        SELECT question_id, ease_factor, interval_days, repetitions, lapses, due_at, last_reviewed_at
+        FROM question_review_states
+        WHERE user_id = ? AND question_id = ANY (?)
+        """;
+
+    private static final String UPSERT_STATE_SQL = """
+        INSERT INTO question_review_states
+            (id, user_id, question_id, ease_factor, interval_days, repetitions, lapses, due_at, last_reviewed_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (user_id, question_id) DO UPDATE
+        SET ease_factor = EXCLUDED.ease_factor,
+            interval_days = EXCLUDED.interval_days,
+            repetitions = EXCLUDED.repetitions,
+            lapses = EXCLUDED.lapses,
+            due_at = EXCLUDED.due_at,
+            last_reviewed_at = EXCLUDED.last_reviewed_at
+        WHERE question_review_states.last_reviewed_at < EXCLUDED.last_reviewed_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuestionReviewStateUpdater(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void apply(List<PendingAttempt> attempts) {
+        Map<UUID, List<PendingAttempt>> byUser = new TreeMap<>();
+        for (PendingAttempt attempt : attempts) {
+            byUser.computeIfAbsent(attempt.userId(), id -> new ArrayList<>()).add(attempt);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<UUID, List<PendingAttempt>> entry : byUser.entrySet()) {
+            UUID userId = entry.getKey();
+            List<PendingAttempt> userAttempts = entry.getValue();
+            userAttempts.sort(Comparator.comparing(PendingAttempt::createdAt));
+
+            jdbcTemplate.queryForList(LOCK_USER_SQL, userId);
+            Map<UUID, SpacedRepetition.State> states = load(userId, userAttempts);
+            Map<UUID, SpacedRepetition.State> updated = new TreeMap<>();
+            for (PendingAttempt attempt : userAttempts) {
+                SpacedRepetition.State previous = states.get(attempt.questionId());
+                if (previous != null && !attempt.createdAt().isAfter(previous.lastReviewedAt())) {
+                    continue;
+                }
+                SpacedRepetition.State next =
+                    SpacedRepetition.next(previous, attempt.correct(), attempt.timeTakenSeconds(), attempt.createdAt());
+                states.put(attempt.questionId(), next);
+                updated.put(attempt.questionId(), next);
+            }
+
+            updated.forEach((questionId, state) -> rows.add(new Object[] {
+                UUID.randomUUID(),
+                userId,
+                questionId,
+                state.easeFactor(),
+                state.intervalDays(),
+                state.repetitions(),
+                state.lapses(),
+                Timestamp.from(state.dueAt()),
+                Timestamp.from(state.lastReviewedAt())
+            }));
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_STATE_SQL, rows);
+        }
+    }
+
+    private Map<UUID, SpacedRepetition.State> load(UUID userId, List<PendingAttempt> attempts) {
+        UUID[] questionIds = attempts.stream().map(PendingAttempt::questionId).distinct().toArray(UUID[]::new);
+        Map<UUID, SpacedRepetition.State> states = new HashMap<>();
+        jdbcTemplate.query(
+            SELECT_STATES_SQL,
+            ps -> {
+                ps.setObject(1, userId);
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", questionIds));
+            },
+            rs -> {
+                states.put(rs.getObject("question_id", UUID.class), new SpacedRepetition.State(
+                    rs.getDouble("ease_factor"),
+                    rs.getInt("interval_days"),
+                    rs.getInt("repetitions"),
+                    rs.getInt("lapses"),
+                    rs.getTimestamp("due_at").toInstant(),
+                    rs.getTimestamp("last_reviewed_at").toInstant()
+                ));
+            }
+        );
+        return states;
+    }
+}
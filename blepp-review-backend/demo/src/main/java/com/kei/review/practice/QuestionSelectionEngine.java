@@ -0,0 +1,162 @@
+package com.kei.review.practice;
+
+import com.kei.review.cache.BoundedCache;
+import com.kei.review.questions.QuestionDifficulty;
+import com.kei.review.questions.QuestionIdIndex;
+import com.kei.review.questions.QuestionSampler;
+import com.kei.review.topics.UserTopic;
+import com.kei.review.topics.UserTopicRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QuestionSelectionEngine {
+    private static final double SECONDS_PER_DAY = Duration.ofDays(1).toSeconds();
+    private static final double UNSEEN_BOOST = 1.5;
+    private static final double MISTAKE_BOOST = 3.0;
+    private static final double OFF_DIFFICULTY_PENALTY = 0.05;
+
+    private final QuestionIdIndex questionIdIndex;
+    private final UserTopicRepository userTopicRepository;
+    private final UserMistakeRepository userMistakeRepository;
+    private final AnswerAttemptRepository answerAttemptRepository;
+    private final BoundedCache<UUID, UserSignals> signals;
+
+    public QuestionSelectionEngine(
+        QuestionIdIndex questionIdIndex,
+        UserTopicRepository userTopicRepository,
+        UserMistakeRepository userMistakeRepository,
+        AnswerAttemptRepository answerAttemptRepository,
+        @Value("${app.practice.selection.max-users:5000}") int maxUsers,
+        @Value("${app.practice.selection.ttl-minutes:120}") long ttlMinutes
+    ) {
+        this.questionIdIndex = questionIdIndex;
+        this.userTopicRepository = userTopicRepository;
+        this.userMistakeRepository = userMistakeRepository;
+        this.answerAttemptRepository = answerAttemptRepository;
+        this.signals = new BoundedCache<>(maxUsers, Duration.ofMinutes(ttlMinutes));
+    }
+
+    public List<UUID> select(
+        UUID userId,
+        UUID topicId,
+        QuestionDifficulty difficulty,
+        int count,
+        boolean mistakesOnly
+    ) {
+        QuestionIdIndex.Candidates candidates = questionIdIndex.candidates(userId, topicId);
+        UserSignals userSignals = signals.computeIfAbsent(userId, this::loadSignals);
+        Instant now = Instant.now();
+
+        double[] weights = new double[candidates.size()];
+        for (int i = 0; i < weights.length; i++) {
+            UUID questionId = candidates.ids()[i];
+            Instant lastWrongAt = userSignals.lastWrongAt().get(questionId);
+            if (mistakesOnly && lastWrongAt == null) {
+                continue;
+            }
+            int mastery = userSignals.masteryByTopic().getOrDefault(candidates.topicIds()[i], 0);
+            weights[i] = topicWeight(mastery)
+                * difficultyWeight(candidates.difficulties()[i], difficulty, mastery)
+                * mistakeWeight(lastWrongAt, now)
+                * recencyWeight(userSignals.lastSeenAt().get(questionId), now);
+        }
+        return QuestionSampler.sampleWeighted(candidates.ids(), weights, count, ThreadLocalRandom.current());
+    }
+
+    public void record(List<PendingAttempt> attempts, List<TopicMastery> masteries) {
+        for (TopicMastery mastery : masteries) {
+            updateMastery(mastery.userId(), mastery.topicId(), mastery.masteryPct());
+        }
+        List<PendingAttempt> ordered = attempts.stream()
+            .sorted(Comparator.comparing(PendingAttempt::createdAt))
+            .toList();
+        for (PendingAttempt attempt : ordered) {
+            UserSignals userSignals = signals.get(attempt.userId());
+            if (userSignals == null) {
+                continue;
+            }
+            Instant at = attempt.createdAt();
+            userSignals.lastSeenAt().merge(attempt.questionId(), at, (a, b) -> a.isAfter(b) ? a : b);
+            if (!attempt.correct()) {
+                userSignals.lastWrongAt().merge(attempt.questionId(), at, (a, b) -> a.isAfter(b) ? a : b);
+            } else {
+                userSignals.lastWrongAt().computeIfPresent(attempt.questionId(), (id, wrongAt) -> wrongAt.isBefore(at) ? null : wrongAt);
+            }
+        }
+    }
+
+    public void updateMastery(UUID userId, UUID topicId, int masteryPct) {
+        UserSignals userSignals = signals.get(userId);
+        if (userSignals != null) {
+            userSignals.masteryByTopic().put(topicId, masteryPct);
+        }
+    }
+
+    private UserSignals loadSignals(UUID userId) {
+        Map<UUID, Integer> masteryByTopic = new ConcurrentHashMap<>();
+        for (UserTopic userTopic : userTopicRepository.findByUserId(userId)) {
+            if (userTopic.getMasteryPct() != null) {
+                masteryByTopic.put(userTopic.getTopic().getId(), userTopic.getMasteryPct());
+            }
+        }
+        Map<UUID, Instant> lastWrongAt = new ConcurrentHashMap<>();
+        for (Object[] row : userMistakeRepository.findLastWrongAtByUserId(userId)) {
+            lastWrongAt.put((UUID) row[0], (Instant) row[1]);
+        }
+        Map<UUID, Instant> lastSeenAt = new ConcurrentHashMap<>();
+        for (Object[] row : answerAttemptRepository.findLastAttemptAtByUserId(userId)) {
+            lastSeenAt.put((UUID) row[0], (Instant) row[1]);
+        }
+        return new UserSignals(masteryByTopic, lastWrongAt, lastSeenAt);
+    }
+
+    private static double topicWeight(int mastery) {
+        return 1.0 + (100 - Math.max(0, Math.min(100, mastery))) / 100.0;
+    }
+
+    private static double difficultyWeight(QuestionDifficulty actual, QuestionDifficulty requested, int mastery) {
+        if (actual == null) {
+            return 1.0;
+        }
+        if (requested != null) {
+            return actual == requested ? 1.0 : OFF_DIFFICULTY_PENALTY;
+        }
+        double target = mastery / 100.0 * (QuestionDifficulty.values().length - 1);
+        return 1.0 / (1.0 + Math.abs(actual.ordinal() - target));
+    }
+
+    private static double mistakeWeight(Instant lastWrongAt, Instant now) {
+        if (lastWrongAt == null) {
+            return 1.0;
+        }
+        double days = Math.max(0, now.getEpochSecond() - lastWrongAt.getEpochSecond()) / SECONDS_PER_DAY;
+        return 1.0 + MISTAKE_BOOST * Math.exp(-days / 14.0);
+    }
+
+    private static double recencyWeight(Instant lastSeenAt, Instant now) {
+        if (lastSeenAt == null) {
+            return UNSEEN_BOOST;
+        }
+        double days = Math.max(0, now.getEpochSecond() - lastSeenAt.getEpochSecond()) / SECONDS_PER_DAY;
+        return Math.min(1.0, 0.1 + days / 7.0);
+    }
+
+    public record TopicMastery(UUID userId, UUID topicId, int masteryPct) {
+    }
+
+    private record UserSignals(
+        Map<UUID, Integer> masteryByTopic,
+        Map<UUID, Instant> lastWrongAt,
+        Map<UUID, Instant> lastSeenAt
+    ) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.kei.review.practice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public final class SpacedRepetition {
+    public static final double DEFAULT_EASE = 2.5;
+    private static final double MIN_EASE = 1.3;
+    private static final int MAX_INTERVAL_DAYS = 365;
+
+    private SpacedRepetition() {
+    }
+
+    public static State next(State previous, boolean correct, Integer timeTakenSeconds, Instant reviewedAt) {
+        State state = previous != null ? previous : new State(DEFAULT_EASE, 0, 0, 0, reviewedAt, reviewedAt);
+        int quality = quality(correct, timeTakenSeconds);
+
+        double ease = Math.max(MIN_EASE, state.easeFactor() + (0.1 - (5 - quality) * (0.08 + (5 - quality) * 0.02)));
+        int repetitions;
+        int lapses = state.lapses();
+        int intervalDays;
+        if (quality < 3) {
+            repetitions = 0;
+            lapses += previous != null ? 1 : 0;
+            intervalDays = 1;
+        } else {
+            repetitions = state.repetitions() + 1;
+            intervalDays = switch (repetitions) {
+                case 1 -> 1;
+                case 2 -> 6;
+                default -> (int) Math.round(state.intervalDays() * ease);
+            };
+        }
+        intervalDays = Math.max(1, Math.min(MAX_INTERVAL_DAYS, intervalDays));
+        return new State(ease, intervalDays, repetitions, lapses, reviewedAt.plus(Duration.ofDays(intervalDays)), reviewedAt);
+    }
+
+    private static int quality(boolean correct, Integer timeTakenSeconds) {
+        if (!correct) {
+            return 1;
+        }
+        if (timeTakenSeconds == null) {
+            return 4;
+        }
+        if (timeTakenSeconds <= 15) {
+            return 5;
+        }
+        return timeTakenSeconds > 60 ? 3 : 4;
+    }
+
+    public record State(
+        double easeFactor,
+        int intervalDays,
+        int repetitions,
+        int lapses,
+        Instant dueAt,
+        Instant lastReviewedAt
+    ) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.kei.review.practice;
+
+import com.kei.review.auth.UserPrincipal;
+import com.kei.review.practice.dto.StudyPlanResponse;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/study-plan")
+public class StudyPlanController {
+    private final StudyPlanService studyPlanService;
+
+    public StudyPlanController(StudyPlanService studyPlanService) {
+        this.studyPlanService = studyPlanService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StudyPlanResponse> getPlan(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        LocalDate planDate = date != null ? date : LocalDate.now(ZoneOffset.UTC);
+        return studyPlanService.getPlan(principal.getId(), planDate)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
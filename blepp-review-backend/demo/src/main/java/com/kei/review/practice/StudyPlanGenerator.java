@@ -0,0 +1,291 @@
+package com.kei.review.practice;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class StudyPlanGenerator {
+    private static final Logger log = LoggerFactory.getLogger(StudyPlanGenerator.class);
+
+    private static final String USER_IDS_SQL = """
+        SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?
+        """;
+
+    private static final String USERS_WITHOUT_PLAN_SQL = """
+        SELECT u.id, u.target_exam_date, u.daily_study_hours
+        FROM users u
+        WHERE u.id = ANY (?)
+          AND NOT EXISTS (SELECT 1 FROM study_plans p WHERE p.user_id = u.id AND p.date = ?)
+        """;
+
+    private static final String MASTERY_SQL = """
+        SELECT user_id, topic_id, mastery_pct, weak
+        FROM user_topics
+        WHERE user_id = ANY (?)
+        """;
+
+    private static final String MISTAKES_SQL = """
+        SELECT m.user_id, q.topic_id, COUNT(*)
+        FROM user_mistakes m
+        JOIN questions q ON q.id = m.question_id
+        WHERE m.user_id = ANY (?)
+        GROUP BY m.user_id, q.topic_id
+        """;
+
+    private static final String DUE_FLASHCARDS_SQL = """
+        SELECT user_id, topic_id, COUNT(*)
+        FROM flashcards
+        WHERE user_id = ANY (?)
+          AND (next_review IS NULL OR next_review <= ?)
+        GROUP BY user_id, topic_id
+        """;
+
+    private static final String INSERT_PLAN_SQL = """
+        INSERT INTO study_plans (id, user_id, date, total_time_minutes)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (user_id, date) DO NOTHING
+        """;
+
+    private static final String INSERT_ITEM_SQL = """
+        INSERT INTO study_plan_items (id, study_plan_id, topic_id, task_type, count, completed)
+        SELECT ?, ?, ?, ?, ?, FALSE
+        WHERE EXISTS (SELECT 1 FROM study_plans WHERE id = ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workerCount;
+    private final ExecutorService workers;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("study-plan-coordinator").factory()
+    );
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StudyPlanGenerator(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.study-plans.chunk-size:500}") int chunkSize,
+        @Value("${app.study-plans.workers:4}") int workerCount
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("study-plan-", 0).factory());
+    }
+
+    @Scheduled(cron = "${app.study-plans.cron:0 5 0 * * *}", zone = "UTC")
+    public void generateNightly() {
+        LocalDate date = LocalDate.now(ZoneOffset.UTC);
+        coordinator.execute(() -> generateAll(date));
+    }
+
+    public void generateAll(LocalDate date) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Study plan generation for {} skipped, a previous run is still in progress", date);
+            return;
+        }
+        long started = System.nanoTime();
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger failedChunks = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(workerCount * 2);
+        try {
+            UUID after = new UUID(0L, 0L);
+            while (true) {
+                List<UUID> chunk = jdbcTemplate.queryForList(USER_IDS_SQL, UUID.class, after, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                after = chunk.getLast();
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        generated.addAndGet(generateChunk(chunk, date));
+                    } catch (RuntimeException e) {
+                        failedChunks.incrementAndGet();
+                        log.warn("Study plan generation failed for {} users starting at {}", chunk.size(), chunk.getFirst(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(workerCount * 2);
+            inFlight.release(workerCount * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+        }
+        log.info(
+            "Generated {} study plans for {} in {} ms ({} failed chunks)",
+            generated.get(),
+            date,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+            failedChunks.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private int generateChunk(List<UUID> userIds, LocalDate date) {
+        Integer generated = transactionTemplate.execute(status -> {
+            Map<UUID, UserInputs> inputs = loadInputs(userIds, date);
+            List<Object[]> plans = new ArrayList<>();
+            List<Object[]> items = new ArrayList<>();
+            for (Map.Entry<UUID, UserInputs> entry : inputs.entrySet()) {
+                UserInputs user = entry.getValue();
+                StudyPlanner.Plan plan = StudyPlanner.plan(
+                    date,
+                    user.targetExamDate,
+                    user.dailyStudyHours,
+                    user.signals()
+                );
+                if (plan.tasks().isEmpty()) {
+                    continue;
+                }
+                UUID planId = UUID.randomUUID();
+                plans.add(new Object[] {planId, entry.getKey(), Date.valueOf(date), plan.totalTimeMinutes()});
+                for (StudyPlanner.Task task : plan.tasks()) {
+                    items.add(new Object[] {
+                        UUID.randomUUID(),
+                        planId,
+                        task.topicId(),
+                        task.taskType().name(),
+                        task.count(),
+                        planId
+                    });
+                }
+            }
+            if (!plans.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_PLAN_SQL, plans);
+                jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items);
+            }
+            return plans.size();
+        });
+        return generated == null ? 0 : generated;
+    }
+
+    private Map<UUID, UserInputs> loadInputs(List<UUID> userIds, LocalDate date) {
+        Map<UUID, UserInputs> inputs = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            USERS_WITHOUT_PLAN_SQL,
+            ps -> {
+                ps.setArray(1, uuidArray(ps.getConnection(), userIds));
+                ps.setDate(2, Date.valueOf(date));
+            },
+            rs -> {
+                Date targetExamDate = rs.getDate("target_exam_date");
+                inputs.put(rs.getObject("id", UUID.class), new UserInputs(
+                    targetExamDate == null ? null : targetExamDate.toLocalDate(),
+                    rs.getObject("daily_study_hours", Integer.class)
+                ));
+            }
+        );
+        if (inputs.isEmpty()) {
+            return inputs;
+        }
+        List<UUID> pending = List.copyOf(inputs.keySet());
+
+        jdbcTemplate.query(
+            MASTERY_SQL,
+            ps -> ps.setArray(1, uuidArray(ps.getConnection(), pending)),
+            rs -> {
+                TopicInputs topic = inputs.get(rs.getObject(1, UUID.class)).topic(rs.getObject(2, UUID.class));
+                topic.masteryPct = rs.getInt(3);
+                topic.weak = rs.getBoolean(4);
+            }
+        );
+        jdbcTemplate.query(
+            MISTAKES_SQL,
+            ps -> ps.setArray(1, uuidArray(ps.getConnection(), pending)),
+            rs -> {
+                inputs.get(rs.getObject(1, UUID.class)).topic(rs.getObject(2, UUID.class)).mistakes = rs.getInt(3);
+            }
+        );
+        jdbcTemplate.query(
+            DUE_FLASHCARDS_SQL,
+            ps -> {
+                ps.setArray(1, uuidArray(ps.getConnection(), pending));
+                ps.setDate(2, Date.valueOf(date));
+            },
+            rs -> {
+                inputs.get(rs.getObject(1, UUID.class)).topic(rs.getObject(2, UUID.class)).dueFlashcards = rs.getInt(3);
+            }
+        );
+        return inputs;
+    }
+
+    private static Array uuidArray(Connection connection, List<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray(UUID[]::new));
+    }
+
+    private static final class UserInputs {
+        private final LocalDate targetExamDate;
+        private final Integer dailyStudyHours;
+        private final Map<UUID, TopicInputs> topics = new HashMap<>();
+
+        private UserInputs(LocalDate targetExamDate, Integer dailyStudyHours) {
+            this.targetExamDate = targetExamDate;
+            this.dailyStudyHours = dailyStudyHours;
+        }
+
+        private TopicInputs topic(UUID topicId) {
+            return topics.computeIfAbsent(topicId, TopicInputs::new);
+        }
+
+        private List<StudyPlanner.TopicSignal> signals() {
+            return topics.values().stream()
+                .map(topic -> new StudyPlanner.TopicSignal(
+                    topic.topicId,
+                    topic.masteryPct,
+                    topic.weak,
+                    topic.mistakes,
+                    topic.dueFlashcards
+                ))
+                .toList();
+        }
+    }
+
+    private static final class TopicInputs {
+        private final UUID topicId;
+        private int masteryPct;
+        private boolean weak;
+        private int mistakes;
+        private int dueFlashcards;
+
+        private TopicInputs(UUID topicId) {
+            this.topicId = topicId;
+        }
+    }
+}
@@ -1,7 +1,22 @@
 package com.kei.review.practice;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StudyPlanRepository extends JpaRepository<StudyPlan, UUID> {
+    @Query("""
+        select new com.kei.review.practice.StudyPlanRow(
+            p.id, p.date, p.totalTimeMinutes, i.id, t.id, t.name, t.slug, t.color, i.taskType, i.count, i.completed
+        )
+        from StudyPlanItem i
+        join i.studyPlan p
+        join i.topic t
+        where p.user.id = :userId and p.date = :date
+        order by i.taskType, t.name
+        """)
+    List<StudyPlanRow> findRowsByUserIdAndDate(@Param("userId") UUID userId, @Param("date") LocalDate date);
 }
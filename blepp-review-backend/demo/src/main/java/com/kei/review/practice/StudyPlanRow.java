@@ -0,0 +1,19 @@
+package com.kei.review.practice;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record StudyPlanRow(
+    UUID planId,
+    LocalDate date,
+    Integer totalTimeMinutes,
+    UUID itemId,
+    UUID topicId,
+    String topicName,
+    String topicSlug,
+    String topicColor,
+    StudyTaskType taskType,
+    Integer count,
+    boolean completed
+) {
+}
@@ -0,0 +1,10 @@
+package com.kei.review.practice;
+
+import com.kei.review.practice.dto.StudyPlanResponse;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StudyPlanService {
+    Optional<StudyPlanResponse> getPlan(UUID userId, LocalDate date);
+}
@@ -0,0 +1,41 @@
+package com.kei.review.practice;
+
+import com.kei.review.practice.dto.StudyPlanResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StudyPlanServiceImpl implements StudyPlanService {
+    private final StudyPlanRepository studyPlanRepository;
+
+    public StudyPlanServiceImpl(StudyPlanRepository studyPlanRepository) {
+        this.studyPlanRepository = studyPlanRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StudyPlanResponse> getPlan(UUID userId, LocalDate date) {
+        List<StudyPlanRow> rows = studyPlanRepository.findRowsByUserIdAndDate(userId, date);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        StudyPlanRow first = rows.getFirst();
+        List<StudyPlanResponse.Item> items = rows.stream()
+            .map(row -> new StudyPlanResponse.Item(
+                row.itemId(),
+                row.topicId(),
+                row.topicName(),
+                row.topicSlug(),
+                row.topicColor(),
+                row.taskType(),
+                row.count(),
+                row.completed()
+            ))
+            .toList();
+        return Optional.of(new StudyPlanResponse(first.planId(), first.date(), first.totalTimeMinutes(), items));
+    }
+}
@@ -0,0 +1,100 @@
+package com.kei.review.practice;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+final class StudyPlanner {
+    private static final int DEFAULT_DAILY_HOURS = 1;
+    private static final int MAX_DAILY_HOURS = 12;
+    private static final double QUESTION_MINUTES = 1.5;
+    private static final double FLASHCARD_MINUTES = 0.5;
+    private static final int VIDEO_MINUTES = 20;
+    private static final double FLASHCARD_BUDGET_SHARE = 0.3;
+    private static final int MIN_QUESTIONS = 5;
+    private static final int FOCUS_TOPICS = 3;
+    private static final int REVIEW_TOPICS = 6;
+    private static final int CRAM_WINDOW_DAYS = 14;
+    private static final int VIDEO_MASTERY_THRESHOLD = 40;
+    private static final int MAX_COUNTED_MISTAKES = 20;
+
+    private StudyPlanner() {
+    }
+
+    static Plan plan(LocalDate date, LocalDate targetExamDate, Integer dailyStudyHours, List<TopicSignal> topics) {
+        if (topics.isEmpty()) {
+            return new Plan(0, List.of());
+        }
+        int hours = dailyStudyHours == null || dailyStudyHours <= 0
+            ? DEFAULT_DAILY_HOURS
+            : Math.min(dailyStudyHours, MAX_DAILY_HOURS);
+        double remaining = hours * 60.0;
+        boolean cramming = targetExamDate != null
+            && ChronoUnit.DAYS.between(date, targetExamDate) <= CRAM_WINDOW_DAYS;
+
+        List<Task> tasks = new ArrayList<>();
+        double flashcardBudget = remaining * FLASHCARD_BUDGET_SHARE;
+        List<TopicSignal> byDueCards = topics.stream()
+            .filter(topic -> topic.dueFlashcards() > 0)
+            .sorted(Comparator.comparingInt(TopicSignal::dueFlashcards).reversed())
+            .toList();
+        for (TopicSignal topic : byDueCards) {
+            int cards = (int) Math.min(topic.dueFlashcards(), Math.floor(flashcardBudget / FLASHCARD_MINUTES));
+            if (cards <= 0) {
+                break;
+            }
+            tasks.add(new Task(topic.topicId(), StudyTaskType.FLASHCARDS, cards));
+            flashcardBudget -= cards * FLASHCARD_MINUTES;
+            remaining -= cards * FLASHCARD_MINUTES;
+        }
+
+        List<TopicSignal> focus = topics.stream()
+            .sorted(Comparator.comparingDouble(StudyPlanner::priority).reversed()
+                .thenComparing(TopicSignal::topicId))
+            .limit(cramming ? REVIEW_TOPICS : FOCUS_TOPICS)
+            .toList();
+
+        TopicSignal weakest = focus.getFirst();
+        if (!cramming && weakest.masteryPct() < VIDEO_MASTERY_THRESHOLD && remaining >= VIDEO_MINUTES * 2) {
+            tasks.add(new Task(weakest.topicId(), StudyTaskType.VIDEO, 1));
+            remaining -= VIDEO_MINUTES;
+        }
+
+        double totalPriority = focus.stream().mapToDouble(StudyPlanner::priority).sum();
+        for (TopicSignal topic : focus) {
+            double share = totalPriority > 0 ? priority(topic) / totalPriority : 1.0 / focus.size();
+            int questions = (int) Math.round(remaining * share / QUESTION_MINUTES / MIN_QUESTIONS) * MIN_QUESTIONS;
+            tasks.add(new Task(topic.topicId(), StudyTaskType.QUESTIONS, Math.max(MIN_QUESTIONS, questions)));
+        }
+
+        double minutes = 0;
+        for (Task task : tasks) {
+            minutes += switch (task.taskType()) {
+                case QUESTIONS -> task.count() * QUESTION_MINUTES;
+                case FLASHCARDS -> task.count() * FLASHCARD_MINUTES;
+                case VIDEO -> task.count() * VIDEO_MINUTES;
+            };
+        }
+        return new Plan((int) Math.ceil(minutes), tasks);
+    }
+
+    private static double priority(TopicSignal topic) {
+        double gap = 100 - Math.max(0, Math.min(100, topic.masteryPct()));
+        if (topic.weak()) {
+            gap *= 1.5;
+        }
+        return gap + 5.0 * Math.min(topic.mistakes(), MAX_COUNTED_MISTAKES);
+    }
+
+    record TopicSignal(UUID topicId, int masteryPct, boolean weak, int mistakes, int dueFlashcards) {
+    }
+
+    record Task(UUID topicId, StudyTaskType taskType, int count) {
+    }
+
+    record Plan(int totalTimeMinutes, List<Task> tasks) {
+    }
+}
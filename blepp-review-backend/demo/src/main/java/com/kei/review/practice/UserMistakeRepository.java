@@ -0,0 +1,31 @@
+package com.kei.review.practice;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserMistakeRepository extends JpaRepository<UserMistake, UUID> {
+    @Query("select m.question.id from UserMistake m where m.user.id = :userId order by m.lastWrongAt desc")
+    List<UUID> findQuestionIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("select m.question.id, m.lastWrongAt from UserMistake m where m.user.id = :userId")
+    List<Object[]> findLastWrongAtByUserId(@Param("userId") UUID userId);
+
+    @EntityGraph(attributePaths = {"question", "question.topic", "question.choices"})
+    List<UserMistake> findByUserIdOrderByLastWrongAtDesc(UUID userId);
+
+    @EntityGraph(attributePaths = {"question", "question.topic", "question.choices"})
+    List<UserMistake> findByUserIdAndQuestionTopicIdOrderByLastWrongAtDesc(UUID userId, UUID topicId);
+
+    @Query("""
+        select q.topic.id, count(distinct q.id)
+        from UserMistake m
+        join m.question q
+        where m.user.id = :userId
+        group by q.topic.id
+        """)
+    List<Object[]> countByTopicForUser(@Param("userId") UUID userId);
+}
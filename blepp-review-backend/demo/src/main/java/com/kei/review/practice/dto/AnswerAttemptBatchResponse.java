@@ -0,0 +1,25 @@
+package com.kei.review.practice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AnswerAttemptBatchResponse(
+    int recorded,
+    int correct,
+    int rejected,
+    List<Item> items
+) {
+    public enum Status {
+        RECORDED,
+        QUESTION_NOT_FOUND,
+        QUESTION_NOT_IN_SESSION
+    }
+
+    public record Item(
+        int index,
+        UUID questionId,
+        Boolean correct,
+        Status status
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.kei.review.practice.dto;
+
+import com.kei.review.questions.dto.QuestionResponse;
+import java.util.UUID;
+
+public record PracticeSessionCursorResponse(
+    UUID sessionId,
+    int position,
+    int totalQuestions,
+    QuestionResponse question
+) {
+}
@@ -0,0 +1,19 @@
+package com.kei.review.practice.dto;
+
+import com.kei.review.questions.dto.QuestionResponse;
+import java.time.Instant;
+import java.util.List;
+
+public record ReviewQueueResponse(
+    long dueCount,
+    List<Item> items
+) {
+    public record Item(
+        QuestionResponse question,
+        Instant dueAt,
+        int intervalDays,
+        int repetitions,
+        int lapses
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.kei.review.practice.dto;
+
+import com.kei.review.practice.StudyTaskType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record StudyPlanResponse(
+    UUID id,
+    LocalDate date,
+    Integer totalTimeMinutes,
+    List<Item> items
+) {
+    public record Item(
+        UUID id,
+        UUID topicId,
+        String topicName,
+        String topicSlug,
+        String topicColor,
+        StudyTaskType taskType,
+        Integer count,
+        boolean completed
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.kei.review.questions;
+
+import java.util.UUID;
+
+public record QuestionAnswerKey(
+    UUID questionId,
+    UUID topicId,
+    String topicSlug,
+    Integer correctAnswerIndex
+) {
+    public boolean isCorrect(Integer selectedAnswerIndex) {
+        return selectedAnswerIndex != null && selectedAnswerIndex.equals(correctAnswerIndex);
+    }
+}
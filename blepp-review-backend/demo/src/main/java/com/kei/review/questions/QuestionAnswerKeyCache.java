@@ -0,0 +1,58 @@
+package com.kei.review.questions;
+
+import com.kei.review.cache.BoundedCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QuestionAnswerKeyCache {
+    private final QuestionRepository questionRepository;
+    private final BoundedCache<UUID, OwnedKey> keys;
+
+    public QuestionAnswerKeyCache(
+        QuestionRepository questionRepository,
+        @Value("${app.questions.answer-keys.max-entries:50000}") int maxEntries,
+        @Value("${app.questions.answer-keys.ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.questionRepository = questionRepository;
+        this.keys = new BoundedCache<>(maxEntries, Duration.ofMinutes(ttlMinutes));
+    }
+
+    public QuestionAnswerKey get(UUID ownerId, UUID questionId) {
+        return questionId == null ? null : get(ownerId, List.of(questionId)).get(questionId);
+    }
+
+    public Map<UUID, QuestionAnswerKey> get(UUID ownerId, Collection<UUID> questionIds) {
+        Map<UUID, QuestionAnswerKey> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID questionId : questionIds) {
+            OwnedKey cached = keys.get(questionId);
+            if (cached == null) {
+                missing.add(questionId);
+            } else if (cached.ownerId().equals(ownerId)) {
+                found.put(questionId, cached.key());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (QuestionAnswerKey key : questionRepository.findAnswerKeys(missing, ownerId)) {
+                keys.put(key.questionId(), new OwnedKey(ownerId, key));
+                found.put(key.questionId(), key);
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(UUID questionId) {
+        keys.invalidate(questionId);
+    }
+
+    private record OwnedKey(UUID ownerId, QuestionAnswerKey key) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.kei.review.questions;
+
+import com.kei.review.cache.BoundedCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QuestionIdIndex {
+    private static final UUID[] EMPTY_IDS = new UUID[0];
+    private static final Candidates EMPTY = new Candidates(EMPTY_IDS, EMPTY_IDS, new QuestionDifficulty[0]);
+
+    private final QuestionRepository questionRepository;
+    private final BoundedCache<UUID, OwnerPool> pools;
+
+    public QuestionIdIndex(
+        QuestionRepository questionRepository,
+        @Value("${app.questions.id-index.max-owners:2000}") int maxOwners,
+        @Value("${app.questions.id-index.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.questionRepository = questionRepository;
+        this.pools = new BoundedCache<>(maxOwners, Duration.ofMinutes(ttlMinutes));
+    }
+
+    public List<UUID> sample(UUID ownerId, UUID topicId, int count) {
+        return QuestionSampler.sample(candidates(ownerId, topicId).ids(), count, ThreadLocalRandom.current());
+    }
+
+    public Candidates candidates(UUID ownerId, UUID topicId) {
+        OwnerPool pool = pools.computeIfAbsent(ownerId, this::loadPool);
+        return topicId == null ? pool.all() : pool.byTopic().getOrDefault(topicId, EMPTY);
+    }
+
+    public void invalidate(UUID ownerId) {
+        pools.invalidate(ownerId);
+    }
+
+    private OwnerPool loadPool(UUID ownerId) {
+        List<Object[]> rows = questionRepository.findSelectionKeysByOwnerId(ownerId);
+        Map<UUID, List<Object[]>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((UUID) row[1], id -> new ArrayList<>()).add(row);
+        }
+        Map<UUID, Candidates> byTopic = new HashMap<>();
+        grouped.forEach((topicId, topicRows) -> byTopic.put(topicId, toCandidates(topicRows)));
+        return new OwnerPool(toCandidates(rows), byTopic);
+    }
+
+    private Candidates toCandidates(List<Object[]> rows) {
+        UUID[] ids = new UUID[rows.size()];
+        UUID[] topicIds = new UUID[rows.size()];
+        QuestionDifficulty[] difficulties = new QuestionDifficulty[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ids[i] = (UUID) rows.get(i)[0];
+            topicIds[i] = (UUID) rows.get(i)[1];
+            difficulties[i] = (QuestionDifficulty) rows.get(i)[2];
+        }
+        return new Candidates(ids, topicIds, difficulties);
+    }
+
+    public record Candidates(UUID[] ids, UUID[] topicIds, QuestionDifficulty[] difficulties) {
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    private record OwnerPool(Candidates all, Map<UUID, Candidates> byTopic) {
+    }
+}
@@ -1,11 +1,32 @@
 package com.kei.review.questions;
 
+import java.util.Collection;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, UUID>, JpaSpecificationExecutor<Question> {
     List<Question> findByOwnerId(UUID ownerId);
     List<Question> findByOwnerIdAndTopicId(UUID ownerId, UUID topicId);
+
+    @Query("select q.id, q.topic.id, q.difficulty from Question q where q.owner.id = :ownerId")
+    List<Object[]> findSelectionKeysByOwnerId(@Param("ownerId") UUID ownerId);
+
+    @EntityGraph(attributePaths = {"topic", "choices"})
+    List<Question> findWithChoicesByIdIn(Collection<UUID> ids);
+
+    @Query("""
+        select new com.kei.review.questions.QuestionAnswerKey(q.id, t.id, t.slug, q.correctAnswerIndex)
+        from Question q
+        join q.topic t
+        where q.id in :questionIds and q.owner.id = :ownerId
+        """)
+    List<QuestionAnswerKey> findAnswerKeys(
+        @Param("questionIds") Collection<UUID> questionIds,
+        @Param("ownerId") UUID ownerId
+    );
 }
@@ -0,0 +1,64 @@
+package com.kei.review.questions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+public final class QuestionSampler {
+    private QuestionSampler() {
+    }
+
+    public static List<UUID> sample(UUID[] ids, int count, Random random) {
+        int size = ids.length;
+        int target = Math.max(0, Math.min(count, size));
+        Set<Integer> chosen = new HashSet<>(target * 2);
+        List<UUID> sampled = new ArrayList<>(target);
+        for (int j = size - target; j < size; j++) {
+            int candidate = random.nextInt(j + 1);
+            int picked = chosen.add(candidate) ? candidate : j;
+            if (picked == j) {
+                chosen.add(j);
+            }
+            sampled.add(ids[picked]);
+        }
+        Collections.shuffle(sampled, random);
+        return sampled;
+    }
+
+    public static List<UUID> sampleWeighted(UUID[] ids, double[] weights, int count, Random random) {
+        int target = Math.max(0, Math.min(count, ids.length));
+        if (target == 0) {
+            return List.of();
+        }
+        PriorityQueue<Keyed> reservoir = new PriorityQueue<>(target, Comparator.comparingDouble(Keyed::key));
+        for (int i = 0; i < ids.length; i++) {
+            double weight = weights[i];
+            if (!(weight > 0)) {
+                continue;
+            }
+            double key = Math.log(1.0 - random.nextDouble()) / weight;
+            if (reservoir.size() < target) {
+                reservoir.add(new Keyed(key, i));
+            } else if (key > reservoir.peek().key()) {
+                reservoir.poll();
+                reservoir.add(new Keyed(key, i));
+            }
+        }
+        List<Keyed> chosen = new ArrayList<>(reservoir);
+        chosen.sort(Comparator.comparingDouble(Keyed::key).reversed());
+        List<UUID> sampled = new ArrayList<>(chosen.size());
+        for (Keyed keyed : chosen) {
+            sampled.add(ids[keyed.index()]);
+        }
+        return sampled;
+    }
+
+    private record Keyed(double key, int index) {
+    }
+}
@@ -3,13 +3,21 @@ package com.kei.review.questions;
 import com.kei.review.questions.dto.QuestionCreateRequest;
 import com.kei.review.questions.dto.QuestionResponse;
 import com.kei.review.questions.dto.QuestionSearchParams;
+import com.kei.review.questions.dto.QuestionStatsResponse;
 import com.kei.review.questions.dto.QuestionUpdateRequest;
 import com.kei.review.topics.Topic;
 import com.kei.review.topics.TopicRepository;
 import com.kei.review.users.User;
 import com.kei.review.users.UserRepository;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -19,15 +27,24 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final TopicRepository topicRepository;
     private final UserRepository userRepository;
+    private final QuestionIdIndex questionIdIndex;
+    private final QuestionAnswerKeyCache questionAnswerKeyCache;
+    private final QuestionStatsRepository questionStatsRepository;
 
     public QuestionServiceImpl(
         QuestionRepository questionRepository,
         TopicRepository topicRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        QuestionIdIndex questionIdIndex,
+        QuestionAnswerKeyCache questionAnswerKeyCache,
+        QuestionStatsRepository questionStatsRepository
     ) {
         this.questionRepository = questionRepository;
         this.topicRepository = topicRepository;
         this.userRepository = userRepository;
+        this.questionIdIndex = questionIdIndex;
+        this.questionAnswerKeyCache = questionAnswerKeyCache;
+        this.questionStatsRepository = questionStatsRepository;
     }
 
     @Override
@@ -64,10 +81,30 @@ public class QuestionServiceImpl implements QuestionService {
                     return root.join("tags").in(params.tags());
                 });
             }
+            if (params.minPValue() != null || params.maxPValue() != null || params.minDiscrimination() != null) {
+                spec = spec.and((root, query, cb) -> {
+                    Subquery<UUID> subquery = query.subquery(UUID.class);
+                    Root<QuestionStats> stats = subquery.from(QuestionStats.class);
+                    List<Predicate> predicates = new ArrayList<>();
+                    if (params.minPValue() != null) {
+                        predicates.add(cb.greaterThanOrEqualTo(stats.get("pValue"), params.minPValue()));
+                    }
+                    if (params.maxPValue() != null) {
+                        predicates.add(cb.lessThanOrEqualTo(stats.get("pValue"), params.maxPValue()));
+                    }
+                    if (params.minDiscrimination() != null) {
+                        predicates.add(cb.greaterThanOrEqualTo(stats.get("discrimination"), params.minDiscrimination()));
+                    }
+                    subquery.select(stats.get("question").get("id")).where(predicates.toArray(Predicate[]::new));
+                    return root.get("id").in(subquery);
+                });
+            }
         }
 
-        return questionRepository.findAll(spec).stream()
-            .map(this::toResponse)
+        List<Question> questions = questionRepository.findAll(spec);
+        Map<UUID, QuestionStatsResponse> stats = statsByQuestionId(questions.stream().map(Question::getId).toList());
+        return questions.stream()
+            .map(question -> toResponse(question, stats.get(question.getId())))
             .toList();
     }
 
@@ -93,7 +130,9 @@ public class QuestionServiceImpl implements QuestionService {
             .createdAt(Instant.now())
             .build();
 
-        return toResponse(questionRepository.save(question));
+        Question saved = questionRepository.save(question);
+        questionIdIndex.invalidate(userId);
+        return toResponse(saved, null);
     }
 
     @Override
@@ -136,7 +175,12 @@ public class QuestionServiceImpl implements QuestionService {
 
         validateChoices(question.getChoices(), question.getCorrectAnswerIndex());
 
-        return toResponse(questionRepository.save(question));
+        Question saved = questionRepository.save(question);
+        questionAnswerKeyCache.invalidate(questionId);
+        if (request.topicId() != null || request.difficulty() != null) {
+            questionIdIndex.invalidate(userId);
+        }
+        return toResponse(saved, statsByQuestionId(List.of(saved.getId())).get(saved.getId()));
     }
 
     @Override
@@ -147,6 +191,8 @@ public class QuestionServiceImpl implements QuestionService {
             throw new IllegalStateException("Question not found");
         }
         questionRepository.delete(question);
+        questionAnswerKeyCache.invalidate(questionId);
+        questionIdIndex.invalidate(userId);
     }
 
     @Override
@@ -178,12 +224,44 @@ public class QuestionServiceImpl implements QuestionService {
             })
             .toList();
 
-        return questionRepository.saveAll(questions).stream()
-            .map(this::toResponse)
+        List<Question> saved = questionRepository.saveAll(questions);
+        questionIdIndex.invalidate(userId);
+        return saved.stream()
+            .map(question -> toResponse(question, null))
             .toList();
     }
 
-    private QuestionResponse toResponse(Question question) {
+    private Map<UUID, QuestionStatsResponse> statsByQuestionId(Collection<UUID> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Map<Integer, Long>> choiceCounts = new HashMap<>();
+        for (Object[] row : questionStatsRepository.findChoiceCountsByQuestionIds(questionIds)) {
+            choiceCounts.computeIfAbsent((UUID) row[0], id -> new HashMap<>())
+                .put((Integer) row[1], ((Number) row[2]).longValue());
+        }
+
+        Map<UUID, QuestionStatsResponse> result = new HashMap<>();
+        for (QuestionStats stats : questionStatsRepository.findByQuestionIdIn(questionIds)) {
+            UUID questionId = stats.getQuestion().getId();
+            Map<Integer, Long> counts = choiceCounts.getOrDefault(questionId, Map.of());
+            int choices = counts.keySet().stream().mapToInt(index -> index + 1).max().orElse(0);
+            List<Long> distribution = new ArrayList<>(choices);
+            for (int i = 0; i < choices; i++) {
+                distribution.add(counts.getOrDefault(i, 0L));
+            }
+            result.put(questionId, new QuestionStatsResponse(
+                stats.getAttemptCount(),
+                stats.getPValue(),
+                stats.getDiscrimination(),
+                stats.getTimedCount() > 0 ? (double) stats.getTotalTimeSeconds() / stats.getTimedCount() : null,
+                distribution
+            ));
+        }
+        return result;
+    }
+
+    private QuestionResponse toResponse(Question question, QuestionStatsResponse stats) {
         return new QuestionResponse(
             question.getId(),
             question.getTopic().getId(),
@@ -196,7 +274,8 @@ public class QuestionServiceImpl implements QuestionService {
             question.getSource(),
             question.getTags(),
             question.getCategory(),
-            question.getCreatedAt()
+            question.getCreatedAt(),
+            stats
         );
     }
 
@@ -0,0 +1,60 @@
+package com.kei.review.questions;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "question_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "question_id", nullable = false, unique = true)
+    private Question question;
+
+    @Column(nullable = false)
+    private long attemptCount;
+
+    @Column(nullable = false)
+    private long correctCount;
+
+    @Column(nullable = false)
+    private long timedCount;
+
+    @Column(nullable = false)
+    private long totalTimeSeconds;
+
+    @Column(nullable = false)
+    private double abilitySumCorrect;
+
+    @Column(nullable = false)
+    private double abilitySumIncorrect;
+
+    private Double pValue;
+
+    private Double discrimination;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,379 @@
+package com.kei.review.questions;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class QuestionStatsJob {
+    private static final Logger log = LoggerFactory.getLogger(QuestionStatsJob.class);
+
+    private static final String ATTEMPTS_WATERMARK = "answer_attempts";
+    private static final String EXAMS_WATERMARK = "exam_sessions";
+
+    private static final String LOCK_WATERMARK_SQL = """
+        SELECT last_at, last_id FROM stats_watermarks WHERE name = ? FOR UPDATE
+        """;
+
+    private static final String UPDATE_WATERMARK_SQL = """
+        UPDATE stats_watermarks SET last_at = ?, last_id = ? WHERE name = ?
+        """;
+
+    private static final String ATTEMPTS_SQL = """
+        SELECT id, created_at, user_id, question_id, selected_answer_index, correct, time_taken_seconds
+        FROM answer_attempts
+        WHERE (created_at, id) > (?, ?) AND created_at <= ?
+        ORDER BY created_at, id
+        LIMIT ?
+        """;
+
+    private static final String USER_ABILITY_SQL = """
+        SELECT user_id, SUM(correct_count)::float8 / NULLIF(SUM(attempt_count), 0) AS ability
+        FROM user_daily_activity
+        WHERE user_id = ANY (?)
+        GROUP BY user_id
+        """;
+
+    private static final String EXAM_SESSIONS_SQL = """
+        SELECT id, graded_at, score
+        FROM exam_sessions
+        WHERE graded_at IS NOT NULL AND (graded_at, id) > (?, ?) AND graded_at <= ?
+        ORDER BY graded_at, id
+        LIMIT ?
+        """;
+
+    private static final String EXAM_ANSWERS_SQL = """
+        SELECT exam_session_id, question_id, selected_answer_index, correct
+        FROM exam_answers
+        WHERE exam_session_id = ANY (?)
+        """;
+
+    private static final String UPSERT_STATS_SQL = """
+        INSERT INTO question_stats
+            (id, question_id, attempt_count, correct_count, timed_count, total_time_seconds,
+             ability_sum_correct, ability_sum_incorrect, p_value, discrimination, updated_at)
+        SELECT ?, q.id, ?, ?, ?, ?, ?, ?, ?, ?, ?
+        FROM questions q
+        WHERE q.id = ?
+        ON CONFLICT (question_id) DO UPDATE
+        SET attempt_count = question_stats.attempt_count + EXCLUDED.attempt_count,
+            correct_count = question_stats.correct_count + EXCLUDED.correct_count,
+            timed_count = question_stats.timed_count + EXCLUDED.timed_count,
+            total_time_seconds = question_stats.total_time_seconds + EXCLUDED.total_time_seconds,
+            ability_sum_correct = question_stats.ability_sum_correct + EXCLUDED.ability_sum_correct,
+            ability_sum_incorrect = question_stats.ability_sum_incorrect + EXCLUDED.ability_sum_incorrect,
+            p_value = %s,
+            discrimination = %s,
+            updated_at = EXCLUDED.updated_at
+        """.formatted(
+            pValueSql(
+                "question_stats.attempt_count + EXCLUDED.attempt_count",
+                "question_stats.correct_count + EXCLUDED.correct_count"
+            ),
+            discriminationSql(
+                "question_stats.attempt_count + EXCLUDED.attempt_count",
+                "question_stats.correct_count + EXCLUDED.correct_count",
+                "question_stats.ability_sum_correct + EXCLUDED.ability_sum_correct",
+                "question_stats.ability_sum_incorrect + EXCLUDED.ability_sum_incorrect"
+            )
+        );
+
+    private static final String UPSERT_CHOICE_SQL = """
+        INSERT INTO question_choice_stats (id, question_id, choice_index, selected_count)
+        SELECT ?, q.id, ?, ?
+        FROM questions q
+        WHERE q.id = ?
+        ON CONFLICT (question_id, choice_index) DO UPDATE
+        SET selected_count = question_choice_stats.selected_count + EXCLUDED.selected_count
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration settleLag;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService aggregator = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("question-stats").factory()
+    );
+
+    public QuestionStatsJob(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.questions.stats.batch-size:5000}") int batchSize,
+        @Value("${app.questions.stats.max-batches-per-run:20}") int maxBatchesPerRun,
+        @Value("${app.questions.stats.settle-lag-seconds:300}") long settleLagSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.settleLag = Duration.ofSeconds(settleLagSeconds);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.questions.stats.interval-ms:60000}",
+        initialDelayString = "${app.questions.stats.initial-delay-ms:30000}"
+    )
+    public void requestAggregate() {
+        if (running.compareAndSet(false, true)) {
+            aggregator.execute(this::aggregate);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        aggregator.shutdownNow();
+    }
+
+    private void aggregate() {
+        try {
+            Instant horizon = Instant.now().minus(settleLag);
+            int batches = 0;
+            while (batches < maxBatchesPerRun && Boolean.TRUE.equals(transactionTemplate.execute(status -> aggregateAttempts(horizon)))) {
+                batches++;
+            }
+            batches = 0;
+            while (batches < maxBatchesPerRun && Boolean.TRUE.equals(transactionTemplate.execute(status -> aggregateExams(horizon)))) {
+                batches++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Question statistics aggregation failed, will resume from the last watermark", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean aggregateAttempts(Instant horizon) {
+        Watermark watermark = lockWatermark(ATTEMPTS_WATERMARK);
+        if (watermark == null) {
+            return false;
+        }
+
+        List<AttemptRow> rows = jdbcTemplate.query(
+            ATTEMPTS_SQL,
+            (rs, rowNum) -> new AttemptRow(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("question_id", UUID.class),
+                rs.getObject("selected_answer_index", Integer.class),
+                rs.getBoolean("correct"),
+                rs.getObject("time_taken_seconds", Integer.class)
+            ),
+            Timestamp.from(watermark.lastAt()),
+            watermark.lastId(),
+            Timestamp.from(horizon),
+            batchSize
+        );
+        if (rows.isEmpty()) {
+            return false;
+        }
+
+        Set<UUID> userIds = new HashSet<>();
+        rows.forEach(row -> userIds.add(row.userId()));
+        Map<UUID, Double> abilities = userAbilities(userIds);
+
+        Map<UUID, Accumulator> byQuestion = new TreeMap<>();
+        for (AttemptRow row : rows) {
+            byQuestion.computeIfAbsent(row.questionId(), id -> new Accumulator())
+                .add(row.correct(), abilities.getOrDefault(row.userId(), 0.0), row.selectedAnswerIndex(), row.timeTakenSeconds());
+        }
+        write(byQuestion);
+
+        AttemptRow last = rows.getLast();
+        jdbcTemplate.update(UPDATE_WATERMARK_SQL, Timestamp.from(last.createdAt()), last.id(), ATTEMPTS_WATERMARK);
+        return rows.size() == batchSize;
+    }
+
+    private boolean aggregateExams(Instant horizon) {
+        Watermark watermark = lockWatermark(EXAMS_WATERMARK);
+        if (watermark == null) {
+            return false;
+        }
+
+        List<SessionRow> sessions = jdbcTemplate.query(
+            EXAM_SESSIONS_SQL,
+            (rs, rowNum) -> new SessionRow(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("graded_at").toInstant(),
+                rs.getObject("score", Integer.class)
+            ),
+            Timestamp.from(watermark.lastAt()),
+            watermark.lastId(),
+            Timestamp.from(horizon),
+            batchSize
+        );
+        if (sessions.isEmpty()) {
+            return false;
+        }
+
+        Map<UUID, Double> abilities = new HashMap<>();
+        for (SessionRow session : sessions) {
+            abilities.put(session.id(), session.score() == null ? 0.0 : session.score() / 100.0);
+        }
+        UUID[] sessionIds = abilities.keySet().toArray(UUID[]::new);
+        Map<UUID, Accumulator> byQuestion = new TreeMap<>();
+        jdbcTemplate.query(
+            EXAM_ANSWERS_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", sessionIds)),
+            rs -> {
+                byQuestion.computeIfAbsent(rs.getObject("question_id", UUID.class), id -> new Accumulator())
+                    .add(
+                        rs.getBoolean("correct"),
+                        abilities.get(rs.getObject("exam_session_id", UUID.class)),
+                        rs.getObject("selected_answer_index", Integer.class),
+                        null
+                    );
+            }
+        );
+        write(byQuestion);
+
+        SessionRow last = sessions.getLast();
+        jdbcTemplate.update(UPDATE_WATERMARK_SQL, Timestamp.from(last.gradedAt()), last.id(), EXAMS_WATERMARK);
+        return sessions.size() == batchSize;
+    }
+
+    private Watermark lockWatermark(String name) {
+        return jdbcTemplate.query(
+            LOCK_WATERMARK_SQL,
+            rs -> rs.next()
+                ? new Watermark(rs.getTimestamp("last_at").toInstant(), rs.getObject("last_id", UUID.class))
+                : null,
+            name
+        );
+    }
+
+    private Map<UUID, Double> userAbilities(Set<UUID> userIds) {
+        Map<UUID, Double> abilities = new HashMap<>();
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        jdbcTemplate.query(
+            USER_ABILITY_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+            rs -> {
+                double ability = rs.getDouble("ability");
+                abilities.put(rs.getObject("user_id", UUID.class), rs.wasNull() ? 0.0 : ability);
+            }
+        );
+        return abilities;
+    }
+
+    private void write(Map<UUID, Accumulator> byQuestion) {
+        if (byQuestion.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> stats = new ArrayList<>(byQuestion.size());
+        List<Object[]> choices = new ArrayList<>();
+        byQuestion.forEach((questionId, acc) -> {
+            stats.add(new Object[] {
+                UUID.randomUUID(),
+                acc.attempts,
+                acc.correct,
+                acc.timed,
+                acc.timeSeconds,
+                acc.abilityCorrect,
+                acc.abilityIncorrect,
+                pValue(acc.attempts, acc.correct),
+                discrimination(acc.attempts, acc.correct, acc.abilityCorrect, acc.abilityIncorrect),
+                now,
+                questionId
+            });
+            acc.choices.forEach((choiceIndex, count) ->
+                choices.add(new Object[] {UUID.randomUUID(), choiceIndex, count, questionId})
+            );
+        });
+        jdbcTemplate.batchUpdate(UPSERT_STATS_SQL, stats);
+        if (!choices.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_CHOICE_SQL, choices);
+        }
+    }
+
+    static Double pValue(long attempts, long correct) {
+        return attempts == 0 ? null : (double) correct / attempts;
+    }
+
+    static Double discrimination(long attempts, long correct, double abilityCorrect, double abilityIncorrect) {
+        long incorrect = attempts - correct;
+        if (correct == 0 || incorrect == 0) {
+            return null;
+        }
+        return abilityCorrect / correct - abilityIncorrect / incorrect;
+    }
+
+    private static String pValueSql(String attempts, String correct) {
+        return "(%s)::float8 / NULLIF(%s, 0)".formatted(correct, attempts);
+    }
+
+    private static String discriminationSql(String attempts, String correct, String abilityCorrect, String abilityIncorrect) {
+        return """
+            CASE WHEN (%2$s) > 0 AND (%1$s) - (%2$s) > 0
+                THEN (%3$s) / (%2$s) - (%4$s) / ((%1$s) - (%2$s))
+                ELSE NULL
+            END""".formatted(attempts, correct, abilityCorrect, abilityIncorrect);
+    }
+
+    private record Watermark(Instant lastAt, UUID lastId) {
+    }
+
+    private record AttemptRow(
+        UUID id,
+        Instant createdAt,
+        UUID userId,
+        UUID questionId,
+        Integer selectedAnswerIndex,
+        boolean correct,
+        Integer timeTakenSeconds
+    ) {
+    }
+
+    private record SessionRow(UUID id, Instant gradedAt, Integer score) {
+    }
+
+    private static final class Accumulator {
+        private long attempts;
+        private long correct;
+        private long timed;
+        private long timeSeconds;
+        private double abilityCorrect;
+        private double abilityIncorrect;
+        private final Map<Integer, Long> choices = new TreeMap<>();
+
+        private void add(boolean isCorrect, double ability, Integer selectedAnswerIndex, Integer timeTakenSeconds) {
+            attempts += 1;
+            if (isCorrect) {
+                correct += 1;
+                abilityCorrect += ability;
+            } else {
+                abilityIncorrect += ability;
+            }
+            if (timeTakenSeconds != null && timeTakenSeconds > 0) {
+                timed += 1;
+                timeSeconds += timeTakenSeconds;
+            }
+            if (selectedAnswerIndex != null && selectedAnswerIndex >= 0) {
+                choices.merge(selectedAnswerIndex, 1L, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kei.review.questions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, UUID> {
+    List<QuestionStats> findByQuestionIdIn(Collection<UUID> questionIds);
+
+    @Query("""
+        select c.question.id, c.choiceIndex, c.selectedCount
+        from QuestionChoiceStat c
+        where c.question.id in :questionIds
+        """)
+    List<Object[]> findChoiceCountsByQuestionIds(@Param("questionIds") Collection<UUID> questionIds);
+}
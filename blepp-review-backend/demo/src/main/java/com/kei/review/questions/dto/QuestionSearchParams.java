@@ -10,6 +10,9 @@ public record QuestionSearchParams(
     UUID topicId,
     QuestionDifficulty difficulty,
     QuestionSource source,
-    List<String> tags
+    List<String> tags,
+    Double minPValue,
+    Double maxPValue,
+    Double minDiscrimination
 ) {
 }
@@ -0,0 +1,12 @@
+package com.kei.review.questions.dto;
+
+import java.util.List;
+
+public record QuestionStatsResponse(
+    long attempts,
+    Double pValue,
+    Double discrimination,
+    Double averageTimeSeconds,
+    List<Long> choiceDistribution
+) {
+}
@@ -0,0 +1,93 @@
+package com.kei.review.topics;
+
+import com.kei.review.lessons.LessonCatalog;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TopicMasteryUpdater {
+    private static final String RECORD_ATTEMPTS_SQL = """
+        INSERT INTO user_topics (id, user_id, topic_id, weak, mastery_pct, attempt_count, correct_count, completed_lesson_count)
+        VALUES (?, ?, ?, FALSE, ?, ?, ?, 0)
+        ON CONFLICT (user_id, topic_id) DO UPDATE
+        SET attempt_count = user_topics.attempt_count + EXCLUDED.attempt_count,
+            correct_count = user_topics.correct_count + EXCLUDED.correct_count,
+            mastery_pct = %s
+        RETURNING mastery_pct
+        """.formatted(masterySql(
+            "user_topics.attempt_count + EXCLUDED.attempt_count",
+            "user_topics.correct_count + EXCLUDED.correct_count",
+            "user_topics.completed_lesson_count"
+        ));
+
+    private static final String RECORD_LESSONS_SQL = """
+        INSERT INTO user_topics (id, user_id, topic_id, weak, mastery_pct, attempt_count, correct_count, completed_lesson_count)
+        VALUES (?, ?, ?, FALSE, ?, 0, 0, ?)
+        ON CONFLICT (user_id, topic_id) DO UPDATE
+        SET completed_lesson_count = EXCLUDED.completed_lesson_count,
+            mastery_pct = %s
+        RETURNING mastery_pct
+        """.formatted(masterySql(
+            "user_topics.attempt_count",
+            "user_topics.correct_count",
+            "EXCLUDED.completed_lesson_count"
+        ));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LessonCatalog lessonCatalog;
+
+    public TopicMasteryUpdater(JdbcTemplate jdbcTemplate, LessonCatalog lessonCatalog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lessonCatalog = lessonCatalog;
+    }
+
+    public Integer recordAttempts(UUID userId, Topic topic, int attempts, int correct) {
+        return recordAttempts(userId, topic.getId(), topic.getSlug(), attempts, correct);
+    }
+
+    public Integer recordAttempts(UUID userId, UUID topicId, String topicSlug, int attempts, int correct) {
+        if (attempts <= 0) {
+            return null;
+        }
+        int totalLessons = lessonCatalog.getTotalLessons(topicSlug);
+        return jdbcTemplate.queryForObject(
+            RECORD_ATTEMPTS_SQL,
+            Integer.class,
+            UUID.randomUUID(),
+            userId,
+            topicId,
+            masteryPct(attempts, correct, 0, totalLessons),
+            attempts,
+            correct,
+            totalLessons
+        );
+    }
+
+    public Integer recordLessonProgress(UUID userId, Topic topic, long completedLessons) {
+        int totalLessons = lessonCatalog.getTotalLessons(topic.getSlug());
+        return jdbcTemplate.queryForObject(
+            RECORD_LESSONS_SQL,
+            Integer.class,
+            UUID.randomUUID(),
+            userId,
+            topic.getId(),
+            masteryPct(0, 0, completedLessons, totalLessons),
+            (int) completedLessons,
+            totalLessons
+        );
+    }
+
+    public static int masteryPct(long attempts, long correct, long completedLessons, int totalLessons) {
+        int practiceAccuracy = attempts == 0 ? 0 : (int) Math.round((correct * 100.0) / attempts);
+        int lessonCompletion = totalLessons == 0
+            ? 0
+            : (int) Math.round((completedLessons * 100.0) / totalLessons);
+        return (int) Math.round(practiceAccuracy * 0.7 + lessonCompletion * 0.3);
+    }
+
+    private static String masterySql(String attempts, String correct, String completedLessons) {
+        return "ROUND(0.7 * COALESCE(ROUND((" + correct + ") * 100.0 / NULLIF(" + attempts + ", 0)), 0)"
+            + " + 0.3 * COALESCE(ROUND((" + completedLessons + ") * 100.0 / NULLIF(?, 0)), 0))::INTEGER";
+    }
+}
@@ -42,4 +42,13 @@ public class UserTopic {
 
     @Column(nullable = false)
     private Integer masteryPct;
+
+    @Column(insertable = false, updatable = false)
+    private Integer attemptCount;
+
+    @Column(insertable = false, updatable = false)
+    private Integer correctCount;
+
+    @Column(insertable = false, updatable = false)
+    private Integer completedLessonCount;
 }
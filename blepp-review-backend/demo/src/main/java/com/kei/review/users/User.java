@@ -40,6 +40,9 @@ public class User {
 
     private Integer dailyStudyHours;
 
+    @Column(nullable = false)
+    private String timeZone;
+
     private String avatarUrl;
 
     private Instant createdAt;
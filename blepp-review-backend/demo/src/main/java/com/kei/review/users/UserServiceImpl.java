@@ -2,9 +2,13 @@ package com.kei.review.users;
 
 import com.kei.review.users.dto.UpdateProfileRequest;
 import com.kei.review.users.dto.UserProfileResponse;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.util.UUID;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -38,6 +42,13 @@ public class UserServiceImpl implements UserService {
         if (request.avatarUrl() != null) {
             user.setAvatarUrl(request.avatarUrl());
         }
+        if (request.timeZone() != null) {
+            try {
+                user.setTimeZone(ZoneId.of(request.timeZone()).getId());
+            } catch (DateTimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown time zone.");
+            }
+        }
         user.setUpdatedAt(Instant.now());
 
         User saved = userRepository.save(user);
@@ -51,7 +62,8 @@ public class UserServiceImpl implements UserService {
             user.getFullName(),
             user.getTargetExamDate(),
             user.getDailyStudyHours(),
-            user.getAvatarUrl()
+            user.getAvatarUrl(),
+            user.getTimeZone()
         );
     }
 }
@@ -0,0 +1,22 @@
+package com.kei.review.users;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+public final class UserTimeZones {
+    public static final String DEFAULT_TIME_ZONE = "Asia/Manila";
+
+    private UserTimeZones() {
+    }
+
+    public static ZoneId resolve(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.of(DEFAULT_TIME_ZONE);
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            return ZoneId.of(DEFAULT_TIME_ZONE);
+        }
+    }
+}
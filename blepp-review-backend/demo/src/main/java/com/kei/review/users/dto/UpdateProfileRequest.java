@@ -6,6 +6,7 @@ public record UpdateProfileRequest(
     String fullName,
     LocalDate targetExamDate,
     Integer dailyStudyHours,
-    String avatarUrl
+    String avatarUrl,
+    String timeZone
 ) {
 }
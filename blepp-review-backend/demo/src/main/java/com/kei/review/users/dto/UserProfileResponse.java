@@ -9,6 +9,7 @@ public record UserProfileResponse(
     String fullName,
     LocalDate targetExamDate,
     Integer dailyStudyHours,
-    String avatarUrl
+    String avatarUrl,
+    String timeZone
 ) {
 }
@@ -0,0 +1,35 @@
+-- Latest wrong answer per (user, question), cleared once the question is answered correctly.
+CREATE TABLE IF NOT EXISTS user_mistakes (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    question_id UUID NOT NULL REFERENCES questions(id) ON DELETE CASCADE,
+    selected_answer_index INTEGER,
+    last_wrong_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_mistakes_user_question
+    ON user_mistakes (user_id, question_id);
+
+CREATE INDEX IF NOT EXISTS ix_user_mistakes_user_last_wrong
+    ON user_mistakes (user_id, last_wrong_at DESC);
+
+CREATE INDEX IF NOT EXISTS ix_answer_attempts_user_question
+    ON answer_attempts (user_id, question_id, created_at);
+
+INSERT INTO user_mistakes (id, user_id, question_id, selected_answer_index, last_wrong_at)
+SELECT gen_random_uuid(), w.user_id, w.question_id, w.selected_answer_index, w.created_at
+FROM (
+    SELECT DISTINCT ON (user_id, question_id) user_id, question_id, selected_answer_index, created_at
+    FROM answer_attempts
+    WHERE correct = FALSE
+    ORDER BY user_id, question_id, created_at DESC
+) w
+WHERE NOT EXISTS (
+    SELECT 1
+    FROM answer_attempts c
+    WHERE c.user_id = w.user_id
+      AND c.question_id = w.question_id
+      AND c.correct = TRUE
+      AND c.created_at > w.created_at
+)
+ON CONFLICT (user_id, question_id) DO NOTHING;
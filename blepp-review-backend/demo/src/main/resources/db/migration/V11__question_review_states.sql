@@ -0,0 +1,18 @@
+-- SM-2 memory state per (user, question), driven by practice attempts.
+CREATE TABLE IF NOT EXISTS question_review_states (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    question_id UUID NOT NULL REFERENCES questions(id) ON DELETE CASCADE,
+    ease_factor DOUBLE PRECISION NOT NULL,
+    interval_days INTEGER NOT NULL,
+    repetitions INTEGER NOT NULL,
+    lapses INTEGER NOT NULL,
+    due_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_reviewed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_question_review_states_user_question
+    ON question_review_states (user_id, question_id);
+
+CREATE INDEX IF NOT EXISTS ix_question_review_states_user_due
+    ON question_review_states (user_id, due_at);
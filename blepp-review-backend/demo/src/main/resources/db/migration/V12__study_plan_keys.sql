@@ -0,0 +1,25 @@
+-- One plan per user and day so the nightly generator can skip users that already have one.
+DELETE FROM study_plan_items
+WHERE study_plan_id IN (
+    SELECT a.id
+    FROM study_plans a
+    JOIN study_plans b
+      ON a.user_id = b.user_id
+     AND a.date = b.date
+     AND a.id < b.id
+);
+
+DELETE FROM study_plans a
+USING study_plans b
+WHERE a.user_id = b.user_id
+  AND a.date = b.date
+  AND a.id < b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_study_plans_user_date
+    ON study_plans (user_id, date);
+
+CREATE INDEX IF NOT EXISTS ix_study_plan_items_plan
+    ON study_plan_items (study_plan_id);
+
+CREATE INDEX IF NOT EXISTS ix_flashcards_user_next_review
+    ON flashcards (user_id, next_review);
@@ -0,0 +1,13 @@
+-- Server-assigned practice session question lists and the last persisted answer cursor.
+CREATE TABLE IF NOT EXISTS practice_session_questions (
+    id UUID PRIMARY KEY,
+    practice_session_id UUID NOT NULL REFERENCES practice_sessions(id),
+    question_id UUID NOT NULL REFERENCES questions(id),
+    order_index INTEGER NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_practice_session_questions_order
+    ON practice_session_questions (practice_session_id, order_index);
+
+ALTER TABLE practice_sessions
+    ADD COLUMN IF NOT EXISTS cursor_position INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- Per-user UTC-day practice rollup so analytics never scans a user's full attempt history.
+CREATE TABLE IF NOT EXISTS user_daily_activity (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id),
+    activity_date DATE NOT NULL,
+    attempt_count INTEGER NOT NULL DEFAULT 0,
+    correct_count INTEGER NOT NULL DEFAULT 0,
+    seconds_studied BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_daily_activity_user_date
+    ON user_daily_activity (user_id, activity_date);
+
+INSERT INTO user_daily_activity (id, user_id, activity_date, attempt_count, correct_count, seconds_studied)
+SELECT gen_random_uuid(),
+       aa.user_id,
+       (aa.created_at AT TIME ZONE 'UTC')::date,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE aa.correct),
+       COALESCE(SUM(aa.time_taken_seconds) FILTER (WHERE aa.time_taken_seconds > 0), 0)
+FROM answer_attempts aa
+WHERE aa.created_at IS NOT NULL
+GROUP BY aa.user_id, (aa.created_at AT TIME ZONE 'UTC')::date
+ON CONFLICT (user_id, activity_date) DO NOTHING;
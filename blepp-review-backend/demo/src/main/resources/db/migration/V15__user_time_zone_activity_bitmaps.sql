@@ -0,0 +1,50 @@
+-- Per-user time zone, local-day activity rollups and a one-bit-per-day activity bitmap.
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS time_zone VARCHAR(64) NOT NULL DEFAULT 'Asia/Manila';
+
+DELETE FROM user_daily_activity;
+
+INSERT INTO user_daily_activity (id, user_id, activity_date, attempt_count, correct_count, seconds_studied)
+SELECT gen_random_uuid(),
+       aa.user_id,
+       (aa.created_at AT TIME ZONE u.time_zone)::date,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE aa.correct),
+       COALESCE(SUM(aa.time_taken_seconds) FILTER (WHERE aa.time_taken_seconds > 0), 0)
+FROM answer_attempts aa
+JOIN users u ON u.id = aa.user_id
+WHERE aa.created_at IS NOT NULL
+GROUP BY aa.user_id, (aa.created_at AT TIME ZONE u.time_zone)::date;
+
+CREATE TABLE IF NOT EXISTS user_activity_bitmaps (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL UNIQUE REFERENCES users(id),
+    origin_day DATE NOT NULL,
+    bits BYTEA NOT NULL
+);
+
+INSERT INTO user_activity_bitmaps (id, user_id, origin_day, bits)
+SELECT gen_random_uuid(),
+       d.user_id,
+       MIN(d.activity_date),
+       decode(repeat('00', (MAX(d.activity_date) - MIN(d.activity_date)) / 8 + 1), 'hex')
+FROM user_daily_activity d
+WHERE d.attempt_count > 0
+GROUP BY d.user_id
+ON CONFLICT (user_id) DO NOTHING;
+
+DO $$
+DECLARE
+    day RECORD;
+BEGIN
+    FOR day IN
+        SELECT d.user_id, d.activity_date - b.origin_day AS bit_index
+        FROM user_daily_activity d
+        JOIN user_activity_bitmaps b ON b.user_id = d.user_id
+        WHERE d.attempt_count > 0
+    LOOP
+        UPDATE user_activity_bitmaps
+        SET bits = set_bit(bits, day.bit_index, 1)
+        WHERE user_id = day.user_id;
+    END LOOP;
+END $$;
@@ -0,0 +1,45 @@
+-- Empirical per-question statistics maintained incrementally from attempt and exam answer watermarks.
+CREATE TABLE IF NOT EXISTS question_stats (
+    id UUID PRIMARY KEY,
+    question_id UUID NOT NULL UNIQUE REFERENCES questions(id) ON DELETE CASCADE,
+    attempt_count BIGINT NOT NULL DEFAULT 0,
+    correct_count BIGINT NOT NULL DEFAULT 0,
+    timed_count BIGINT NOT NULL DEFAULT 0,
+    total_time_seconds BIGINT NOT NULL DEFAULT 0,
+    ability_sum_correct DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ability_sum_incorrect DOUBLE PRECISION NOT NULL DEFAULT 0,
+    p_value DOUBLE PRECISION,
+    discrimination DOUBLE PRECISION,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_question_stats_p_value
+    ON question_stats (p_value);
+
+CREATE TABLE IF NOT EXISTS question_choice_stats (
+    id UUID PRIMARY KEY,
+    question_id UUID NOT NULL REFERENCES questions(id) ON DELETE CASCADE,
+    choice_index INTEGER NOT NULL,
+    selected_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_question_choice_stats_question_choice
+    ON question_choice_stats (question_id, choice_index);
+
+CREATE TABLE IF NOT EXISTS stats_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    last_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_id UUID NOT NULL
+);
+
+INSERT INTO stats_watermarks (name, last_at, last_id)
+VALUES ('answer_attempts', TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00', '00000000-0000-0000-0000-000000000000'),
+       ('exam_sessions', TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00', '00000000-0000-0000-0000-000000000000')
+ON CONFLICT (name) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS ix_answer_attempts_created_id
+    ON answer_attempts (created_at, id);
+
+CREATE INDEX IF NOT EXISTS ix_exam_sessions_submitted_id
+    ON exam_sessions (submitted_at, id)
+    WHERE submitted_at IS NOT NULL;
@@ -0,0 +1,20 @@
+-- Admin attempt history exports with a keyset checkpoint so interrupted runs resume where they stopped.
+CREATE TABLE IF NOT EXISTS attempt_export_jobs (
+    id UUID PRIMARY KEY,
+    requested_by UUID NOT NULL REFERENCES users(id),
+    status VARCHAR(32) NOT NULL,
+    range_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    range_end TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_id UUID NOT NULL,
+    rows_exported BIGINT NOT NULL DEFAULT 0,
+    files_written INTEGER NOT NULL DEFAULT 0,
+    directory VARCHAR(1024) NOT NULL,
+    error VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS ix_attempt_export_jobs_status
+    ON attempt_export_jobs (status, created_at);
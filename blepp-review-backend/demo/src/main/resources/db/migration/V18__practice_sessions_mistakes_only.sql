@@ -0,0 +1,9 @@
+-- Mark mistake-review practice sessions so topic-scoped reviews sample only that topic's mistakes.
+ALTER TABLE practice_sessions
+    ADD COLUMN IF NOT EXISTS mistakes_only BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE practice_sessions ps
+SET mistakes_only = TRUE
+FROM topics t
+WHERE t.id = ps.topic_id
+  AND t.slug = 'mistake-review';
@@ -0,0 +1,14 @@
+-- Record when an exam session was actually graded so statistics watermarks follow commit order rather than the deadline.
+ALTER TABLE exam_sessions
+    ADD COLUMN IF NOT EXISTS graded_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE exam_sessions
+SET graded_at = submitted_at
+WHERE submitted_at IS NOT NULL
+  AND graded_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS ix_exam_sessions_graded_id
+    ON exam_sessions (graded_at, id)
+    WHERE graded_at IS NOT NULL;
+
+DROP INDEX IF EXISTS ix_exam_sessions_submitted_id;
@@ -0,0 +1,16 @@
+-- Recompute mastery from the counters backfilled in V9 using TopicMasteryUpdater's formula and LessonCatalog's lesson totals.
+WITH lesson_totals (slug, total_lessons) AS (
+    VALUES ('general-psychology', 12),
+           ('abnormal-psychology', 10),
+           ('psychological-assessment', 8),
+           ('industrial-organizational-psychology', 9),
+           ('ethics-ra-10029', 6)
+)
+UPDATE user_topics ut
+SET mastery_pct = ROUND(
+        0.7 * COALESCE(ROUND(ut.correct_count * 100.0 / NULLIF(ut.attempt_count, 0)), 0)
+        + 0.3 * COALESCE(ROUND(ut.completed_lesson_count * 100.0 / NULLIF(COALESCE(lt.total_lessons, 0), 0)), 0)
+    )::INTEGER
+FROM topics t
+LEFT JOIN lesson_totals lt ON lt.slug = t.slug
+WHERE t.id = ut.topic_id;
@@ -0,0 +1,18 @@
+-- Keep a single answer and flag per session/question so buffered writes can be upserted.
+DELETE FROM exam_answers a
+USING exam_answers b
+WHERE a.exam_session_id = b.exam_session_id
+  AND a.question_id = b.question_id
+  AND a.id < b.id;
+
+DELETE FROM exam_flags a
+USING exam_flags b
+WHERE a.exam_session_id = b.exam_session_id
+  AND a.question_id = b.question_id
+  AND a.id < b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_exam_answers_session_question
+    ON exam_answers (exam_session_id, question_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_exam_flags_session_question
+    ON exam_flags (exam_session_id, question_id);
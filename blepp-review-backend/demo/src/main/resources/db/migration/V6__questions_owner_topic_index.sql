@@ -0,0 +1,6 @@
+-- Support id-only lookups of a user's question bank when sampling exam questions.
+CREATE INDEX IF NOT EXISTS ix_questions_owner_topic
+    ON questions (owner_id, topic_id, id);
+
+CREATE INDEX IF NOT EXISTS ix_exam_session_questions_session
+    ON exam_session_questions (exam_session_id, order_index);
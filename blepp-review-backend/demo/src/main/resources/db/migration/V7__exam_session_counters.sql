@@ -0,0 +1,18 @@
+-- Running answered/correct counters on exam sessions, backfilled from existing answers.
+ALTER TABLE exam_sessions
+    ADD COLUMN IF NOT EXISTS answered_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE exam_sessions
+    ADD COLUMN IF NOT EXISTS correct_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE exam_sessions es
+SET answered_count = counts.answered,
+    correct_count = counts.correct
+FROM (
+    SELECT exam_session_id,
+           COUNT(*) FILTER (WHERE selected_answer_index IS NOT NULL) AS answered,
+           COUNT(*) FILTER (WHERE correct) AS correct
+    FROM exam_answers
+    GROUP BY exam_session_id
+) counts
+WHERE counts.exam_session_id = es.id;
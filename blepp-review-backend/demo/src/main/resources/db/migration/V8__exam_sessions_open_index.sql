@@ -0,0 +1,4 @@
+-- Open sessions are reloaded into the deadline queue on startup.
+CREATE INDEX IF NOT EXISTS ix_exam_sessions_open
+    ON exam_sessions (id)
+    WHERE submitted_at IS NULL;
@@ -0,0 +1,44 @@
+-- Per-(user, topic) practice and lesson counters so mastery can be updated without recounting history.
+DELETE FROM user_topics a
+USING user_topics b
+WHERE a.user_id = b.user_id
+  AND a.topic_id = b.topic_id
+  AND a.id < b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_topics_user_topic
+    ON user_topics (user_id, topic_id);
+
+ALTER TABLE user_topics
+    ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE user_topics
+    ADD COLUMN IF NOT EXISTS correct_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE user_topics
+    ADD COLUMN IF NOT EXISTS completed_lesson_count INTEGER NOT NULL DEFAULT 0;
+
+INSERT INTO user_topics (id, user_id, topic_id, weak, mastery_pct, attempt_count, correct_count)
+SELECT gen_random_uuid(), counts.user_id, counts.topic_id, FALSE, 0, counts.attempts, counts.correct
+FROM (
+    SELECT aa.user_id,
+           q.topic_id,
+           COUNT(*) AS attempts,
+           COUNT(*) FILTER (WHERE aa.correct) AS correct
+    FROM answer_attempts aa
+    JOIN questions q ON q.id = aa.question_id
+    GROUP BY aa.user_id, q.topic_id
+) counts
+ON CONFLICT (user_id, topic_id) DO UPDATE
+SET attempt_count = EXCLUDED.attempt_count,
+    correct_count = EXCLUDED.correct_count;
+
+UPDATE user_topics ut
+SET completed_lesson_count = counts.completed
+FROM (
+    SELECT lp.user_id, t.id AS topic_id, COUNT(*) AS completed
+    FROM lesson_progress lp
+    JOIN topics t ON t.slug = lp.topic_slug
+    GROUP BY lp.user_id, t.id
+) counts
+WHERE counts.user_id = ut.user_id
+  AND counts.topic_id = ut.topic_id;